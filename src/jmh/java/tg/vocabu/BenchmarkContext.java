@@ -0,0 +1,141 @@
+package tg.vocabu;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import tg.vocabu.bot.OutboundMessageQueue;
+import tg.vocabu.bot.TelegramBot;
+import tg.vocabu.config.BotConfig;
+import tg.vocabu.config.DictionaryConfig;
+import tg.vocabu.config.DispatcherConfig;
+import tg.vocabu.config.ExerciseSessionConfig;
+import tg.vocabu.config.GoogleClientConfig;
+import tg.vocabu.config.OutboundConfig;
+import tg.vocabu.config.TempStateConfig;
+import tg.vocabu.config.TranslationCacheConfig;
+import tg.vocabu.config.UserRegistryConfig;
+import tg.vocabu.config.VocabularyIndexConfig;
+import tg.vocabu.model.entity.dictionary.DictionaryWord;
+import tg.vocabu.repository.CallbackQueryRepository;
+import tg.vocabu.repository.DictionaryRepository;
+import tg.vocabu.repository.ExerciseRepository;
+import tg.vocabu.repository.TranslationCacheRepository;
+import tg.vocabu.repository.UserRepository;
+import tg.vocabu.repository.WordRepository;
+import tg.vocabu.repository.WordTempRepository;
+import tg.vocabu.service.BotMetrics;
+import tg.vocabu.service.DictionaryIndex;
+import tg.vocabu.util.DictionaryImporter;
+
+public final class BenchmarkContext {
+
+  public static final long ADMIN_CHAT_ID = 1L;
+  public static final long USER_CHAT_ID = 42L;
+
+  private BenchmarkContext() {}
+
+  public static AnnotationConfigApplicationContext create(List<DictionaryWord> dictionary) {
+
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+
+    BotConfig botConfig = new BotConfig();
+    botConfig.setAdminChatId(ADMIN_CHAT_ID);
+    botConfig.setUsername("benchmark_bot");
+    botConfig.setToken("0:benchmark");
+
+    TranslationCacheConfig cacheConfig = new TranslationCacheConfig();
+    cacheConfig.getPersistent().setEnabled(false);
+
+    DictionaryConfig dictionaryConfig = new DictionaryConfig();
+    dictionaryConfig.setWatchEnabled(false);
+
+    ExerciseSessionConfig sessionConfig = new ExerciseSessionConfig();
+    sessionConfig.getPersistent().setEnabled(false);
+
+    context.registerBean(BotConfig.class, () -> botConfig);
+    context.registerBean(DictionaryConfig.class, () -> dictionaryConfig);
+    context.registerBean(DispatcherConfig.class, DispatcherConfig::new);
+    context.registerBean(TranslationCacheConfig.class, () -> cacheConfig);
+    context.registerBean(ExerciseSessionConfig.class, () -> sessionConfig);
+    context.registerBean(OutboundConfig.class, OutboundConfig::new);
+    context.registerBean(TempStateConfig.class, TempStateConfig::new);
+    context.registerBean(UserRegistryConfig.class, UserRegistryConfig::new);
+    context.registerBean(VocabularyIndexConfig.class, VocabularyIndexConfig::new);
+    context.registerBean(GoogleClientConfig.class, GoogleClientConfig::new);
+    context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    DictionaryRepository dictionaryRepository = mock(DictionaryRepository.class, withSettings().stubOnly());
+    when(dictionaryRepository.findAll()).thenReturn(dictionary);
+
+    context.registerBean(DictionaryRepository.class, () -> dictionaryRepository);
+    registerMock(context, CallbackQueryRepository.class);
+    registerMock(context, ExerciseRepository.class);
+    registerMock(context, TranslationCacheRepository.class);
+    registerMock(context, UserRepository.class);
+    registerMock(context, WordRepository.class);
+    registerMock(context, WordTempRepository.class);
+    registerMock(context, JdbcTemplate.class);
+    registerMock(context, DictionaryImporter.class);
+
+    // Replies are sent inline so a benchmark measures the handler and the send, not a background queue filling up.
+    context.registerBean(OutboundMessageQueue.class, SynchronousOutboundQueue::new);
+
+    ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context);
+    scanner.addExcludeFilter(new AssignableTypeFilter(OutboundMessageQueue.class));
+    scanner.scan("tg.vocabu.bot", "tg.vocabu.service");
+
+    context.refresh();
+
+    context.getBean(DictionaryIndex.class).reload();
+
+    return context;
+  }
+
+  public static List<DictionaryWord> sampleDictionary(int size) {
+
+    List<DictionaryWord> words = new ArrayList<>(size + 3);
+    words.add(DictionaryWord.builder().id(1L).english("hello").ukrainian("привіт").build());
+    words.add(DictionaryWord.builder().id(2L).english("account").ukrainian("рахунок").build());
+    words.add(DictionaryWord.builder().id(3L).english("world").ukrainian("світ").build());
+
+    for (long i = 0; i < size; i++) {
+      words.add(DictionaryWord.builder().id(i + 4).english("word" + i).ukrainian("слово" + i).build());
+    }
+
+    return words;
+  }
+
+  private static final class SynchronousOutboundQueue extends OutboundMessageQueue {
+
+    private SynchronousOutboundQueue() {
+      super(new OutboundConfig(), new BotMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Override
+    public boolean send(TelegramBot bot, long chatId, BotApiMethod<?> method) {
+
+      try {
+        bot.execute(method);
+        return true;
+
+      } catch (TelegramApiException e) {
+        return false;
+      }
+    }
+  }
+
+  private static <T> void registerMock(AnnotationConfigApplicationContext context, Class<T> type) {
+    context.registerBean(type, () -> mock(type, withSettings().stubOnly()));
+  }
+}
@@ -0,0 +1,105 @@
+package tg.vocabu.bot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+import tg.vocabu.BenchmarkContext;
+import tg.vocabu.model.entity.user.Word;
+import tg.vocabu.repository.WordRepository;
+import tg.vocabu.service.store.TempStateStore;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BotUpdateHandlerBenchmark {
+
+  @Param({"/help", "/vocabulary", "hello", "привіт", "/unknown"})
+  public String text;
+
+  private AnnotationConfigApplicationContext context;
+  private BotUpdateHandler botUpdateHandler;
+  private TempStateStore tempStateStore;
+  private TelegramBot bot;
+  private Update update;
+
+  @Setup
+  public void setUp() {
+
+    context = BenchmarkContext.create(BenchmarkContext.sampleDictionary(10000));
+    botUpdateHandler = context.getBean(BotUpdateHandler.class);
+    tempStateStore = context.getBean(TempStateStore.class);
+    bot = mock(TelegramBot.class, withSettings().stubOnly());
+
+    List<Word> vocabulary = new ArrayList<>();
+
+    for (long i = 0; i < 21; i++) {
+      vocabulary.add(Word.builder().id(i).chatId(BenchmarkContext.USER_CHAT_ID).english("Word " + i).ukrainian("Слово " + i).build());
+    }
+
+    when(context.getBean(WordRepository.class).findPageAfter(anyLong(), anyBoolean(), anyLong(), any())).thenReturn(vocabulary);
+
+    update = createUpdate(text);
+  }
+
+  @Setup(Level.Iteration)
+  public void resetChatState() {
+    tempStateStore.clear(BenchmarkContext.USER_CHAT_ID);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Update handle() {
+    botUpdateHandler.handle(update, bot);
+    return update;
+  }
+
+  private static Update createUpdate(String text) {
+
+    Chat chat = new Chat();
+    chat.setId(BenchmarkContext.USER_CHAT_ID);
+    chat.setType("private");
+
+    User user = new User();
+    user.setId(BenchmarkContext.USER_CHAT_ID);
+    user.setFirstName("Benchmark");
+    user.setIsBot(false);
+
+    Message message = new Message();
+    message.setMessageId(1);
+    message.setChat(chat);
+    message.setFrom(user);
+    message.setText(text);
+
+    Update update = new Update();
+    update.setUpdateId(1);
+    update.setMessage(message);
+
+    return update;
+  }
+}
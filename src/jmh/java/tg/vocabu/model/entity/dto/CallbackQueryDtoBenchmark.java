@@ -0,0 +1,24 @@
+package tg.vocabu.model.entity.dto;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CallbackQueryDtoBenchmark {
+
+  @Param({"ADD_TO_VOCABULARY:1234567", "BAN_USER:987654321", "START_EXERCISE"})
+  public String callbackData;
+
+  @Benchmark
+  public CallbackQueryDto extract() {
+    return CallbackQueryDto.extract(callbackData);
+  }
+}
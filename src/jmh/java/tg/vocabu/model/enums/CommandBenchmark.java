@@ -0,0 +1,24 @@
+package tg.vocabu.model.enums;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandBenchmark {
+
+  @Param({"/start", "/clear_vocabulary", "/clear all", "Hello world", "Привіт світ"})
+  public String text;
+
+  @Benchmark
+  public Command fromString() {
+    return Command.fromString(text);
+  }
+}
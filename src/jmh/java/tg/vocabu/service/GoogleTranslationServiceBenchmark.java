@@ -0,0 +1,52 @@
+package tg.vocabu.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import tg.vocabu.BenchmarkContext;
+import tg.vocabu.exception.TranslationException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GoogleTranslationServiceBenchmark {
+
+  @Param({"single-word", "escaped-phrase", "multi-sentence", "quoted-translation"})
+  public String response;
+
+  private AnnotationConfigApplicationContext context;
+  private GoogleTranslationService googleTranslationService;
+  private String responseBody;
+
+  @Setup
+  public void setUp() throws IOException {
+
+    context = BenchmarkContext.create(BenchmarkContext.sampleDictionary(0));
+    googleTranslationService = context.getBean(GoogleTranslationService.class);
+
+    try (InputStream inputStream = getClass().getResourceAsStream("/google/" + response + ".json")) {
+      responseBody = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String parseTranslationResponse() throws TranslationException {
+    return googleTranslationService.parseTranslationResponse(responseBody);
+  }
+}
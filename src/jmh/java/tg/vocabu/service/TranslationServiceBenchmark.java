@@ -0,0 +1,55 @@
+package tg.vocabu.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import tg.vocabu.BenchmarkContext;
+import tg.vocabu.model.enums.LanguageCode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TranslationServiceBenchmark {
+
+  @Param({"Hello", "Good morning world", "Привіт світ", "12345", "acount", "wrd123"})
+  public String text;
+
+  private AnnotationConfigApplicationContext context;
+  private TranslationService translationService;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkContext.create(BenchmarkContext.sampleDictionary(10000));
+    translationService = context.getBean(TranslationService.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public LanguageCode detectLanguage() {
+    return translationService.detectLanguage(text);
+  }
+
+  @Benchmark
+  public List<String> findByPrefix() {
+    return translationService.findByPrefix(text, 20);
+  }
+
+  @Benchmark
+  public Optional<String> suggestCorrection() {
+    return translationService.suggestCorrection(text);
+  }
+}
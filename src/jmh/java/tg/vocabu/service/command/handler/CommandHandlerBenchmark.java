@@ -0,0 +1,40 @@
+package tg.vocabu.service.command.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tg.vocabu.model.entity.user.Word;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandHandlerBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  public int vocabularySize;
+
+  private List<Word> words;
+
+  @Setup
+  public void setUp() {
+
+    words = new ArrayList<>(vocabularySize);
+
+    for (long i = 0; i < vocabularySize; i++) {
+      words.add(Word.builder().id(i).chatId(42L).english("Word " + i).ukrainian("Слово " + i).score((int) (i % 100)).build());
+    }
+  }
+
+  @Benchmark
+  public String generateWordsListTable() {
+    return CommandHandler.generateWordsListTable("==🇬🇧== Vocabulary ==🇺🇦== - % -\n\n", words, true);
+  }
+}
@@ -0,0 +1,24 @@
+package tg.vocabu.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilBenchmark {
+
+  @Param({"hello", "GOOD MORNING world", "привіт світ"})
+  public String text;
+
+  @Benchmark
+  public String normalizeText() {
+    return StringUtil.normalizeText(text);
+  }
+}
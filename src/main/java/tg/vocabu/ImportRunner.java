@@ -3,6 +3,7 @@ package tg.vocabu;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import tg.vocabu.service.DictionaryIndex;
 import tg.vocabu.util.DictionaryImporter;
 
 @Component
@@ -10,9 +11,11 @@ import tg.vocabu.util.DictionaryImporter;
 public class ImportRunner implements CommandLineRunner {
 
   private final DictionaryImporter dictionaryImporter;
+  private final DictionaryIndex dictionaryIndex;
 
   @Override
   public void run(String... args) throws Exception {
     dictionaryImporter.importDictionary();
+    dictionaryIndex.reload();
   }
 }
@@ -1,21 +1,27 @@
 package tg.vocabu.bot;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import tg.vocabu.config.BotConfig;
 import tg.vocabu.model.entity.dto.CallbackQueryDto;
 import tg.vocabu.model.enums.CallbackQuery;
 import tg.vocabu.model.enums.Command;
+import tg.vocabu.service.BotMetrics;
 import tg.vocabu.service.command.handler.AdminCommandHandler;
 import tg.vocabu.service.command.handler.CallbackQueryHandler;
 import tg.vocabu.service.command.handler.CommandHandler;
 import tg.vocabu.service.command.handler.ExerciseCommandHandler;
 import tg.vocabu.service.command.handler.GoogleTranslatorHandler;
+import tg.vocabu.service.command.handler.InlineQueryHandler;
 
 @Slf4j
 @Service
@@ -27,15 +33,21 @@ public class BotUpdateHandler {
   private final AdminCommandHandler adminCommandHandler;
   private final GoogleTranslatorHandler googleTranslatorHandler;
   private final CallbackQueryHandler callbackQueryHandler;
+  private final InlineQueryHandler inlineQueryHandler;
 
   private final BotConfig botConfig;
+  private final BotMetrics botMetrics;
+  private final OutboundMessageQueue outboundMessageQueue;
 
   public void handle(Update update, TelegramBot bot) {
 
     SendMessage message = new SendMessage();
+    Integer editMessageId = null;
 
     if (update.hasMessage() && update.getMessage().hasText()) {
 
+      Timer.Sample sample = botMetrics.startTimer();
+
       String text = update.getMessage().getText();
       long chatId = update.getMessage().getChatId();
 
@@ -65,17 +77,23 @@ public class BotUpdateHandler {
           case STATS -> googleTranslatorHandler.handleStatsCheckCommand(message, chatId);
           case STATUS -> googleTranslatorHandler.handleStatusCheckCommand(message, chatId);
 
-          case CLEAR -> googleTranslatorHandler.handleClearCacheCommand(message, chatId);
+          case CLEAR -> googleTranslatorHandler.handleClearCacheCommand(message, chatId, text);
           case CLEAR_VOCABULARY -> commandHandler.handleClearVocabulary(message, chatId);
 
           case USERS -> adminCommandHandler.handleUsersStatus(message);
-          case USERS_LIST -> adminCommandHandler.handleUserList(message);
+          case USERS_LIST -> adminCommandHandler.handleUserList(message, chatId, text);
+          case QUEUE -> adminCommandHandler.handleQueueStatus(message);
+          case RELOAD -> adminCommandHandler.handleReloadDictionary(message);
 
           default -> commandHandler.handleTranslateCommand(message, chatId, text);
         }
       }
+
+      botMetrics.recordCommand(sample, command);
     } else if (update.hasCallbackQuery()) {
 
+      Timer.Sample sample = botMetrics.startTimer();
+
       String callbackData = update.getCallbackQuery().getData();
       long chatId = update.getCallbackQuery().getMessage().getChatId();
 
@@ -99,6 +117,15 @@ public class BotUpdateHandler {
 
         case ADD_OWN_TRANSLATION -> callbackQueryHandler.handleAddOwnTranslation(message, chatId, data);
 
+        case DID_YOU_MEAN -> {
+          editMessageId = update.getCallbackQuery().getMessage().getMessageId();
+          commandHandler.handleDidYouMean(message, chatId, data);
+        }
+        case TRANSLATE_AS_TYPED -> {
+          editMessageId = update.getCallbackQuery().getMessage().getMessageId();
+          commandHandler.handleTranslateAsTyped(message, chatId, data);
+        }
+
         case BAN_USER -> callbackQueryHandler.handleBanUser(message, data);
         case UNBAN_USER -> callbackQueryHandler.handleUnbanUser(message, data);
 
@@ -106,15 +133,86 @@ public class BotUpdateHandler {
         case SKIP_EXERCISE -> callbackQueryHandler.handleSkipExercise(message, chatId);
         case CORRECT_EXERCISE_ANSWER, WRONG_EXERCISE_ANSWER -> callbackQueryHandler.handleExerciseAnswer(message, chatId, callbackData);
 
+        case VOCABULARY_NEXT_PAGE, VOCABULARY_PREVIOUS_PAGE, LEARNED_NEXT_PAGE, LEARNED_PREVIOUS_PAGE -> {
+          CallbackQuery page = callbackQueryDto.getCallbackQuery();
+          boolean learned = page == CallbackQuery.LEARNED_NEXT_PAGE || page == CallbackQuery.LEARNED_PREVIOUS_PAGE;
+          boolean forward = page == CallbackQuery.VOCABULARY_NEXT_PAGE || page == CallbackQuery.LEARNED_NEXT_PAGE;
+
+          editMessageId = update.getCallbackQuery().getMessage().getMessageId();
+          commandHandler.handleWordsPage(message, chatId, learned, data, forward);
+        }
+
+        case USERS_NEXT_PAGE, USERS_PREVIOUS_PAGE -> {
+          if (chatId != botConfig.getAdminChatId()) {
+            commandHandler.handleSomethingWentWrong(message);
+          } else {
+            editMessageId = update.getCallbackQuery().getMessage().getMessageId();
+            adminCommandHandler.handleUsersPage(message, chatId, data, callbackQueryDto.getCallbackQuery() == CallbackQuery.USERS_NEXT_PAGE);
+          }
+        }
+
         default -> commandHandler.handleSomethingWentWrong(message);
       }
+
+      botMetrics.recordCallback(sample, callbackQueryDto.getCallbackQuery());
+    } else if (update.hasInlineQuery()) {
+
+      Timer.Sample sample = botMetrics.startTimer();
+
+      AnswerInlineQuery answer = inlineQueryHandler.handleInlineQuery(update.getInlineQuery());
+
+      botMetrics.recordInlineQuery(sample);
+      answerInlineQuery(bot, answer);
+
+      return;
     }
 
+    if (message.getChatId() == null) {
+      return;
+    }
+
+    long chatId = Long.parseLong(message.getChatId());
+
+    if (editMessageId != null) {
+      outboundMessageQueue.send(bot, chatId, toEditMessage(message, editMessageId));
+    } else {
+      outboundMessageQueue.send(bot, chatId, message);
+    }
+  }
+
+  private void answerInlineQuery(TelegramBot bot, AnswerInlineQuery answer) {
+
+    Timer.Sample sendSample = botMetrics.startTimer();
+
     try {
-      bot.execute(message);
+      bot.executeAsync(answer)
+          .whenComplete(
+              (answered, error) -> {
+                botMetrics.recordSend(sendSample, error == null);
+
+                if (error != null) {
+                  log.debug("Failed to answer inline query {}: {}", answer.getInlineQueryId(), error.getMessage());
+                }
+              });
+
     } catch (TelegramApiException e) {
-      log.error("Error sending message: {}", e.getMessage());
-      e.printStackTrace();
+      botMetrics.recordSend(sendSample, false);
+      log.error("Error answering inline query: {}", e.getMessage());
+    }
+  }
+
+  private static EditMessageText toEditMessage(SendMessage message, int messageId) {
+
+    EditMessageText editMessage = new EditMessageText();
+    editMessage.setChatId(message.getChatId());
+    editMessage.setMessageId(messageId);
+    editMessage.setText(message.getText());
+    editMessage.setParseMode(message.getParseMode());
+
+    if (message.getReplyMarkup() instanceof InlineKeyboardMarkup markup) {
+      editMessage.setReplyMarkup(markup);
     }
+
+    return editMessage;
   }
 }
@@ -0,0 +1,343 @@
+package tg.vocabu.bot;
+
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import tg.vocabu.config.OutboundConfig;
+import tg.vocabu.service.BotMetrics;
+import tg.vocabu.service.resilience.ExponentialBackoff;
+import tg.vocabu.service.resilience.TokenBucket;
+
+@Slf4j
+@Component
+public class OutboundMessageQueue {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVER_ERROR = 500;
+
+  private final OutboundConfig outboundConfig;
+  private final BotMetrics botMetrics;
+
+  private final ScheduledExecutorService senders;
+  private final TokenBucket globalBucket;
+  private final Map<Long, ChatQueue> chats = new ConcurrentHashMap<>();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+
+  private final long chatRetryDelayNanos;
+
+  private volatile long pausedUntilNanos = System.nanoTime();
+
+  public OutboundMessageQueue(OutboundConfig outboundConfig, BotMetrics botMetrics) {
+
+    this.outboundConfig = outboundConfig;
+    this.botMetrics = botMetrics;
+
+    this.senders = Executors.newScheduledThreadPool(outboundConfig.getSenders(), senderThreadFactory());
+    this.globalBucket =
+        new TokenBucket(outboundConfig.getGlobalRatePerSecond(), outboundConfig.getGlobalMinRatePerSecond(), outboundConfig.getGlobalBurst());
+
+    this.chatRetryDelayNanos = (long) (TimeUnit.SECONDS.toNanos(1) / outboundConfig.getPerChatRatePerSecond());
+
+    botMetrics.monitorOutboundQueue(queueDepth);
+
+    log.debug("Outbound message queue started with {} senders", outboundConfig.getSenders());
+  }
+
+  public boolean send(TelegramBot bot, long chatId, BotApiMethod<?> method) {
+
+    if (queueDepth.incrementAndGet() > outboundConfig.getQueueCapacity()) {
+
+      queueDepth.decrementAndGet();
+      botMetrics.countSendDropped("queue_full");
+      log.warn("Outbound queue is full, dropped {} for chat: {}", method.getMethod(), chatId);
+
+      return false;
+    }
+
+    OutboundMessage outbound = new OutboundMessage(bot, method, System.nanoTime());
+
+    while (true) {
+
+      ChatQueue chat = chats.computeIfAbsent(chatId, this::newChatQueue);
+
+      synchronized (chat) {
+
+        if (chat.removed) {
+          continue;
+        }
+
+        chat.messages.add(outbound);
+
+        if (!chat.scheduled) {
+          chat.scheduled = true;
+          schedule(chat, 0);
+        }
+
+        return true;
+      }
+    }
+  }
+
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  public int getActiveChats() {
+    return chats.size();
+  }
+
+  @Scheduled(fixedDelay = 60000)
+  public void evictIdleChats() {
+
+    for (ChatQueue chat : chats.values()) {
+
+      synchronized (chat) {
+
+        if (!chat.scheduled && chat.messages.isEmpty() && chat.bucket.getAvailableTokens() >= outboundConfig.getPerChatBurst()) {
+          chat.removed = true;
+          chats.remove(chat.chatId, chat);
+        }
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+
+    log.info("Shutting down outbound message queue, {} messages still queued", queueDepth.get());
+
+    senders.shutdown();
+
+    try {
+      if (!senders.awaitTermination(outboundConfig.getShutdownTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+        senders.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      senders.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void drain(ChatQueue chat) {
+
+    OutboundMessage outbound;
+
+    synchronized (chat) {
+      outbound = chat.messages.peek();
+    }
+
+    if (outbound == null) {
+      reschedule(chat, 0);
+      return;
+    }
+
+    long pausedNanos = pausedUntilNanos - System.nanoTime();
+
+    if (pausedNanos > 0) {
+      reschedule(chat, pausedNanos);
+      return;
+    }
+
+    if (chat.backoff.isActive()) {
+      reschedule(chat, TimeUnit.MILLISECONDS.toNanos(chat.backoff.getRemainingMillis()));
+      return;
+    }
+
+    if (!chat.bucket.tryAcquire()) {
+      reschedule(chat, chatRetryDelayNanos);
+      return;
+    }
+
+    if (!globalBucket.tryAcquire()) {
+      chat.bucket.release();
+      reschedule(chat, (long) (TimeUnit.SECONDS.toNanos(1) / globalBucket.getRatePerSecond()));
+      return;
+    }
+
+    if (outbound.attempts == 0) {
+      botMetrics.recordOutboundWait(System.nanoTime() - outbound.enqueuedNanos);
+    }
+
+    outbound.attempts++;
+
+    Timer.Sample sample = botMetrics.startTimer();
+
+    try {
+      outbound.bot.execute(outbound.method);
+
+      botMetrics.recordSend(sample, true);
+      globalBucket.onSuccess();
+      chat.backoff.reset();
+      complete(chat);
+
+    } catch (TelegramApiRequestException e) {
+      botMetrics.recordSend(sample, false);
+      handleRequestFailure(chat, outbound, e);
+
+    } catch (TelegramApiException e) {
+      botMetrics.recordSend(sample, false);
+      retryOrDrop(chat, outbound, null, "transient", e.getMessage());
+
+    } catch (RuntimeException e) {
+      botMetrics.recordSend(sample, false);
+      log.error("Unexpected error sending {} to chat {}: {}", outbound.method.getMethod(), chat.chatId, e.getMessage());
+      botMetrics.countSendDropped("error");
+      complete(chat);
+    }
+
+    reschedule(chat, 0);
+  }
+
+  private void handleRequestFailure(ChatQueue chat, OutboundMessage outbound, TelegramApiRequestException e) {
+
+    Integer errorCode = e.getErrorCode();
+
+    if (errorCode != null && errorCode == TOO_MANY_REQUESTS) {
+
+      Integer retryAfter = e.getParameters() != null ? e.getParameters().getRetryAfter() : null;
+      globalBucket.onThrottled();
+
+      if (retryAfter != null) {
+        pauseAll(Duration.ofSeconds(retryAfter));
+      }
+
+      retryOrDrop(chat, outbound, retryAfter != null ? Duration.ofSeconds(retryAfter) : null, "rate_limited", e.getApiResponse());
+      return;
+    }
+
+    if (errorCode == null || errorCode >= SERVER_ERROR) {
+      retryOrDrop(chat, outbound, null, "transient", e.getApiResponse());
+      return;
+    }
+
+    log.error("Telegram rejected {} for chat {}: {}", outbound.method.getMethod(), chat.chatId, e.getApiResponse());
+    botMetrics.countSendDropped("rejected");
+    complete(chat);
+  }
+
+  private void retryOrDrop(ChatQueue chat, OutboundMessage outbound, Duration retryAfter, String reason, String error) {
+
+    if (outbound.attempts >= outboundConfig.getMaxAttempts()) {
+
+      log.error("Giving up on {} for chat {} after {} attempts: {}", outbound.method.getMethod(), chat.chatId, outbound.attempts, error);
+      botMetrics.countSendDropped(reason);
+      chat.backoff.reset();
+      complete(chat);
+
+      return;
+    }
+
+    Duration delay = chat.backoff.onFailure(retryAfter);
+    botMetrics.countSendRetry(reason);
+
+    log.warn("Retrying {} for chat {} in {}ms ({}): {}", outbound.method.getMethod(), chat.chatId, delay.toMillis(), reason, error);
+  }
+
+  private synchronized void pauseAll(Duration retryAfter) {
+
+    long pausedUntil = System.nanoTime() + retryAfter.toNanos();
+
+    if (pausedUntil - pausedUntilNanos > 0) {
+      pausedUntilNanos = pausedUntil;
+      log.warn("Telegram rate limit hit, pausing all outbound messages for {}s", retryAfter.toSeconds());
+    }
+  }
+
+  private void complete(ChatQueue chat) {
+
+    synchronized (chat) {
+      chat.messages.poll();
+    }
+
+    queueDepth.decrementAndGet();
+  }
+
+  private void reschedule(ChatQueue chat, long delayNanos) {
+
+    synchronized (chat) {
+
+      if (chat.messages.isEmpty()) {
+        chat.scheduled = false;
+        return;
+      }
+
+      schedule(chat, delayNanos);
+    }
+  }
+
+  private void schedule(ChatQueue chat, long delayNanos) {
+
+    try {
+      senders.schedule(() -> drain(chat), delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      log.warn("Outbound queue is shut down, {} messages for chat {} not sent", chat.messages.size(), chat.chatId);
+      chat.scheduled = false;
+    }
+  }
+
+  private ChatQueue newChatQueue(long chatId) {
+
+    return new ChatQueue(
+        chatId,
+        new TokenBucket(outboundConfig.getPerChatRatePerSecond(), outboundConfig.getPerChatBurst()),
+        new ExponentialBackoff(outboundConfig.getRetryBaseDelay(), outboundConfig.getRetryMaxDelay()));
+  }
+
+  private static ThreadFactory senderThreadFactory() {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    return runnable -> {
+      Thread thread = new Thread(runnable, "outbound-sender-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static final class ChatQueue {
+
+    private final long chatId;
+    private final TokenBucket bucket;
+    private final ExponentialBackoff backoff;
+    private final ArrayDeque<OutboundMessage> messages = new ArrayDeque<>();
+
+    private boolean scheduled;
+    private boolean removed;
+
+    private ChatQueue(long chatId, TokenBucket bucket, ExponentialBackoff backoff) {
+      this.chatId = chatId;
+      this.bucket = bucket;
+      this.backoff = backoff;
+    }
+  }
+
+  private static final class OutboundMessage {
+
+    private final TelegramBot bot;
+    private final BotApiMethod<?> method;
+    private final long enqueuedNanos;
+
+    private int attempts;
+
+    private OutboundMessage(TelegramBot bot, BotApiMethod<?> method, long enqueuedNanos) {
+      this.bot = bot;
+      this.method = method;
+      this.enqueuedNanos = enqueuedNanos;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package tg.vocabu.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class StripedExecutor {
+
+  private final Stripe[] stripes;
+
+  public StripedExecutor(String name, int stripeCount, int queueCapacity) {
+
+    this.stripes = new Stripe[stripeCount];
+
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(name + "-" + i, queueCapacity);
+    }
+  }
+
+  public void execute(long key, Runnable task) {
+    stripes[stripeIndex(key)].execute(task);
+  }
+
+  public int getQueueDepth() {
+
+    int depth = 0;
+
+    for (Stripe stripe : stripes) {
+      depth += stripe.executor.getQueue().size();
+    }
+
+    return depth;
+  }
+
+  public List<StripeStats> getStripeStats() {
+
+    List<StripeStats> stats = new ArrayList<>(stripes.length);
+
+    for (int i = 0; i < stripes.length; i++) {
+      stats.add(stripes[i].getStats(i));
+    }
+
+    return stats;
+  }
+
+  public void shutdown(long timeoutMillis) {
+
+    for (Stripe stripe : stripes) {
+      stripe.executor.shutdown();
+    }
+
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+
+    try {
+      for (Stripe stripe : stripes) {
+        stripe.executor.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private int stripeIndex(long key) {
+
+    int hash = Long.hashCode(key);
+    hash ^= hash >>> 16;
+
+    return Math.floorMod(hash, stripes.length);
+  }
+
+  public record StripeStats(int stripe, int queueDepth, long oldestWaitMillis, long lastWaitMillis, long completedTasks) {}
+
+  private static class Stripe {
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong lastWaitNanos = new AtomicLong();
+
+    Stripe(String threadName, int queueCapacity) {
+
+      this.executor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(queueCapacity),
+              runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+              },
+              (runnable, pool) -> {
+                if (pool.isShutdown()) {
+                  throw new RejectedExecutionException("Executor " + threadName + " is shut down");
+                }
+
+                try {
+                  pool.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  throw new RejectedExecutionException("Interrupted while waiting for queue space in " + threadName, e);
+                }
+              });
+    }
+
+    void execute(Runnable task) {
+      executor.execute(new QueuedTask(System.nanoTime(), task));
+    }
+
+    StripeStats getStats(int index) {
+
+      long oldestWaitMillis = 0;
+
+      if (executor.getQueue().peek() instanceof QueuedTask oldest) {
+        oldestWaitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAt);
+      }
+
+      return new StripeStats(
+          index,
+          executor.getQueue().size(),
+          oldestWaitMillis,
+          TimeUnit.NANOSECONDS.toMillis(lastWaitNanos.get()),
+          executor.getCompletedTaskCount());
+    }
+
+    private class QueuedTask implements Runnable {
+
+      private final long enqueuedAt;
+      private final Runnable task;
+
+      QueuedTask(long enqueuedAt, Runnable task) {
+        this.enqueuedAt = enqueuedAt;
+        this.task = task;
+      }
+
+      @Override
+      public void run() {
+
+        lastWaitNanos.set(System.nanoTime() - enqueuedAt);
+
+        try {
+          task.run();
+        } catch (Exception e) {
+          log.error("Task failed on {}: {}", Thread.currentThread().getName(), e.getMessage(), e);
+        }
+      }
+    }
+  }
+}
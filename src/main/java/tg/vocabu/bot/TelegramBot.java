@@ -1,21 +1,43 @@
 package tg.vocabu.bot;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import tg.vocabu.config.BotConfig;
+import tg.vocabu.service.UserRegistry;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class TelegramBot extends TelegramLongPollingBot {
 
   private final BotUpdateHandler updateHandler;
+  private final UpdateDispatcher updateDispatcher;
   private final BotConfig botConfig;
+  private final UserRegistry userRegistry;
+
+  public TelegramBot(BotUpdateHandler updateHandler, UpdateDispatcher updateDispatcher, BotConfig botConfig, UserRegistry userRegistry) {
+
+    super(createOptions(botConfig), botConfig.getToken());
+
+    this.updateHandler = updateHandler;
+    this.updateDispatcher = updateDispatcher;
+    this.botConfig = botConfig;
+    this.userRegistry = userRegistry;
+  }
 
   @Override
   public void onUpdateReceived(Update update) {
-    updateHandler.handle(update, this);
+
+    long userId = UpdateDispatcher.resolveUserId(update);
+
+    if (userId != botConfig.getAdminChatId() && userRegistry.isBanned(userId)) {
+      log.trace("Dropped update from banned user: {}", userId);
+      return;
+    }
+
+    updateDispatcher.dispatch(update, () -> updateHandler.handle(update, this));
   }
 
   @Override
@@ -27,4 +49,12 @@ public class TelegramBot extends TelegramLongPollingBot {
   public String getBotToken() {
     return botConfig.getToken();
   }
+
+  private static DefaultBotOptions createOptions(BotConfig botConfig) {
+
+    DefaultBotOptions options = new DefaultBotOptions();
+    options.setBaseUrl(botConfig.getApiBaseUrl());
+
+    return options;
+  }
 }
@@ -0,0 +1,79 @@
+package tg.vocabu.bot;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import tg.vocabu.config.DispatcherConfig;
+
+@Slf4j
+@Component
+public class UpdateDispatcher {
+
+  private final DispatcherConfig dispatcherConfig;
+  private final StripedExecutor executor;
+
+  public UpdateDispatcher(DispatcherConfig dispatcherConfig) {
+
+    this.dispatcherConfig = dispatcherConfig;
+    this.executor = new StripedExecutor("update-dispatcher", dispatcherConfig.getStripes(), dispatcherConfig.getQueueCapacity());
+
+    log.debug("Update dispatcher started with {} stripes", dispatcherConfig.getStripes());
+  }
+
+  public void dispatch(Update update, Runnable handler) {
+    executor.execute(resolveChatId(update), handler);
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueueDepth();
+  }
+
+  public List<StripedExecutor.StripeStats> getStripeStats() {
+    return executor.getStripeStats();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+
+    log.info("Shutting down update dispatcher, {} updates still queued", executor.getQueueDepth());
+    executor.shutdown(dispatcherConfig.getShutdownTimeoutMillis());
+  }
+
+  public static long resolveChatId(Update update) {
+
+    if (update.hasMessage()) {
+      return update.getMessage().getChatId();
+    }
+
+    if (update.hasCallbackQuery()) {
+      return update.getCallbackQuery().getMessage() != null
+          ? update.getCallbackQuery().getMessage().getChatId()
+          : update.getCallbackQuery().getFrom().getId();
+    }
+
+    if (update.hasInlineQuery()) {
+      return update.getInlineQuery().getFrom().getId();
+    }
+
+    return 0L;
+  }
+
+  public static long resolveUserId(Update update) {
+
+    if (update.hasMessage() && update.getMessage().getFrom() != null) {
+      return update.getMessage().getFrom().getId();
+    }
+
+    if (update.hasCallbackQuery()) {
+      return update.getCallbackQuery().getFrom().getId();
+    }
+
+    if (update.hasInlineQuery()) {
+      return update.getInlineQuery().getFrom().getId();
+    }
+
+    return 0L;
+  }
+}
@@ -0,0 +1,51 @@
+package tg.vocabu.bot;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import tg.vocabu.config.WebhookConfig;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "telegram.bot", name = "update-mode", havingValue = "webhook")
+public class WebhookController {
+
+  private static final String SECRET_TOKEN_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+  private final TelegramBot telegramBot;
+  private final WebhookConfig webhookConfig;
+
+  @PostMapping("${telegram.webhook.path:/telegram/webhook}")
+  public ResponseEntity<Void> onUpdate(@RequestHeader(value = SECRET_TOKEN_HEADER, required = false) String secretToken, @RequestBody Update update) {
+
+    if (!isAuthorized(secretToken)) {
+      log.warn("Rejected webhook update {} with invalid secret token", update.getUpdateId());
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    telegramBot.onUpdateReceived(update);
+
+    return ResponseEntity.ok().build();
+  }
+
+  private boolean isAuthorized(String secretToken) {
+
+    String expected = webhookConfig.getSecretToken();
+
+    if (expected == null || expected.isBlank() || secretToken == null) {
+      return false;
+    }
+
+    return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), secretToken.getBytes(StandardCharsets.UTF_8));
+  }
+}
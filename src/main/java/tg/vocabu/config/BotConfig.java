@@ -15,4 +15,12 @@ public class BotConfig {
 
   private String username;
   private String token;
+
+  private String apiBaseUrl = "https://api.telegram.org/bot";
+  private UpdateMode updateMode = UpdateMode.LONG_POLLING;
+
+  public enum UpdateMode {
+    LONG_POLLING,
+    WEBHOOK
+  }
 }
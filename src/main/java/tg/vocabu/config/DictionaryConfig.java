@@ -1,5 +1,6 @@
 package tg.vocabu.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,6 +14,18 @@ public class DictionaryConfig {
 
   private boolean importOnStartup;
   private boolean resetBeforeImport;
+  private boolean skipHeader;
 
   private String sourceFilePath;
+
+  private Mode mode = Mode.SYNC;
+  private int syncBatchSize = 1000;
+
+  private boolean watchEnabled = true;
+  private Duration watchDebounce = Duration.ofSeconds(2);
+
+  public enum Mode {
+    IMPORT,
+    SYNC
+  }
 }
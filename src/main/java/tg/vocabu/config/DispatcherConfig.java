@@ -0,0 +1,18 @@
+package tg.vocabu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "telegram.dispatcher")
+public class DispatcherConfig {
+
+  private int stripes = 16;
+  private int queueCapacity = 1000;
+
+  private long shutdownTimeoutMillis = 10000;
+}
@@ -0,0 +1,31 @@
+package tg.vocabu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "exercise.sessions")
+public class ExerciseSessionConfig {
+
+  private long maximumSize = 100000;
+
+  private Duration idleTimeout = Duration.ofMinutes(30);
+
+  private Persistent persistent = new Persistent();
+
+  @Getter
+  @Setter
+  public static class Persistent {
+
+    private boolean enabled = false;
+
+    private int batchSize = 500;
+
+    private long flushIntervalMillis = 5000;
+  }
+}
@@ -0,0 +1,29 @@
+package tg.vocabu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "google.client")
+public class GoogleClientConfig {
+
+  private double maxRequestsPerSecond = 5;
+  private double minRequestsPerSecond = 0.5;
+  private int burstCapacity = 10;
+  private Duration rateLimitWait = Duration.ofSeconds(5);
+
+  private Duration requestTimeout = Duration.ofSeconds(8);
+  private Duration translationDeadline = Duration.ofSeconds(20);
+
+  private Duration backoffBaseDelay = Duration.ofSeconds(2);
+  private Duration backoffMaxDelay = Duration.ofMinutes(5);
+
+  private int failureThreshold = 5;
+  private Duration openDuration = Duration.ofSeconds(30);
+  private int halfOpenProbes = 1;
+}
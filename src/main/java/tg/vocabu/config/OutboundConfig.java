@@ -0,0 +1,29 @@
+package tg.vocabu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "telegram.outbound")
+public class OutboundConfig {
+
+  private int senders = 4;
+  private int queueCapacity = 10000;
+
+  private double globalRatePerSecond = 30;
+  private double globalMinRatePerSecond = 5;
+  private double globalBurst = 10;
+  private double perChatRatePerSecond = 1;
+  private double perChatBurst = 3;
+
+  private int maxAttempts = 5;
+  private Duration retryBaseDelay = Duration.ofMillis(500);
+  private Duration retryMaxDelay = Duration.ofSeconds(30);
+
+  private long shutdownTimeoutMillis = 10000;
+}
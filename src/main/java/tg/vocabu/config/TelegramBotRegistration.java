@@ -1,10 +1,15 @@
 package tg.vocabu.config;
 
+import jakarta.annotation.PreDestroy;
+import java.security.SecureRandom;
+import java.util.Base64;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.BotSession;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 import tg.vocabu.bot.TelegramBot;
 
@@ -12,14 +17,74 @@ import tg.vocabu.bot.TelegramBot;
 @Configuration
 public class TelegramBotRegistration {
 
+  private static final int SECRET_TOKEN_BYTES = 32;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  private BotSession botSession;
+
   @Bean
-  public TelegramBotsApi telegramBotsApi(TelegramBot telegramBot) throws TelegramApiException {
+  public TelegramBotsApi telegramBotsApi(TelegramBot telegramBot, BotConfig botConfig, WebhookConfig webhookConfig) throws TelegramApiException {
 
     TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
-    botsApi.registerBot(telegramBot);
+
+    if (botConfig.getUpdateMode() == BotConfig.UpdateMode.WEBHOOK && registerWebhook(telegramBot, webhookConfig)) {
+      return botsApi;
+    }
+
+    botSession = botsApi.registerBot(telegramBot);
 
     log.debug("Telegram bot registered successfully!");
 
     return botsApi;
   }
+
+  @PreDestroy
+  public void shutdown() {
+
+    if (botSession != null && botSession.isRunning()) {
+      botSession.stop();
+    }
+  }
+
+  private boolean registerWebhook(TelegramBot telegramBot, WebhookConfig webhookConfig) {
+
+    if (webhookConfig.getPublicUrl() == null || webhookConfig.getPublicUrl().isBlank()) {
+      log.error("Webhook mode requires telegram.webhook.public-url, falling back to long polling");
+      return false;
+    }
+
+    String url = webhookConfig.getPublicUrl().replaceAll("/+$", "") + webhookConfig.getPath();
+
+    SetWebhook setWebhook =
+        SetWebhook.builder()
+            .url(url)
+            .secretToken(resolveSecretToken(webhookConfig))
+            .maxConnections(webhookConfig.getMaxConnections())
+            .dropPendingUpdates(webhookConfig.isDropPendingUpdates())
+            .build();
+
+    try {
+      telegramBot.execute(setWebhook);
+      log.debug("Telegram bot registered with webhook: {}", url);
+      return true;
+
+    } catch (TelegramApiException e) {
+      log.error("Failed to set webhook {}, falling back to long polling: {}", url, e.getMessage());
+      return false;
+    }
+  }
+
+  private static String resolveSecretToken(WebhookConfig webhookConfig) {
+
+    if (webhookConfig.getSecretToken() == null || webhookConfig.getSecretToken().isBlank()) {
+
+      byte[] secret = new byte[SECRET_TOKEN_BYTES];
+      SECURE_RANDOM.nextBytes(secret);
+
+      webhookConfig.setSecretToken(Base64.getUrlEncoder().withoutPadding().encodeToString(secret));
+      log.warn("telegram.webhook.secret-token is not set, generated a random one; set it explicitly when running several instances");
+    }
+
+    return webhookConfig.getSecretToken();
+  }
 }
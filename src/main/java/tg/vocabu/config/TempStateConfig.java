@@ -0,0 +1,22 @@
+package tg.vocabu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "temp-state")
+public class TempStateConfig {
+
+  private long maximumSize = 100000;
+
+  private Duration pendingCommandTtl = Duration.ofMinutes(15);
+  private Duration draftTtl = Duration.ofHours(1);
+
+  private boolean spillEnabled = false;
+  private long spillCleanupIntervalMillis = 600000;
+}
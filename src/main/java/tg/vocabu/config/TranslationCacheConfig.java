@@ -0,0 +1,34 @@
+package tg.vocabu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "google.cache")
+public class TranslationCacheConfig {
+
+  private long maximumSize = 10000;
+
+  private Duration expireAfterWrite;
+
+  private Persistent persistent = new Persistent();
+
+  @Getter
+  @Setter
+  public static class Persistent {
+
+    private boolean enabled = true;
+
+    private int batchSize = 500;
+    private int warmUpSize = 5000;
+    private int maxTextLength = 500;
+
+    private long flushIntervalMillis = 5000;
+    private long hitFlushIntervalMillis = 300000;
+  }
+}
@@ -0,0 +1,15 @@
+package tg.vocabu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "users.registry")
+public class UserRegistryConfig {
+
+  private long profileCacheSize = 10000;
+}
@@ -0,0 +1,18 @@
+package tg.vocabu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "vocabulary.index")
+public class VocabularyIndexConfig {
+
+  private long maximumChats = 10000;
+
+  private Duration idleTimeout = Duration.ofHours(1);
+}
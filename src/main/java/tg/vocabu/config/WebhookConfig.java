@@ -0,0 +1,20 @@
+package tg.vocabu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "telegram.webhook")
+public class WebhookConfig {
+
+  private String publicUrl;
+  private String path = "/telegram/webhook";
+  private String secretToken;
+
+  private int maxConnections = 40;
+  private boolean dropPendingUpdates = false;
+}
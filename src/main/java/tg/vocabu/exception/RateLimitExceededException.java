@@ -0,0 +1,15 @@
+package tg.vocabu.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends TranslationException {
+
+  private final Duration retryAfter;
+
+  public RateLimitExceededException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+}
@@ -0,0 +1,8 @@
+package tg.vocabu.exception;
+
+public class ServiceUnavailableException extends TranslationException {
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -1,5 +1,9 @@
 package tg.vocabu.exception;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
 public class TranslationException extends Exception {
 
   public TranslationException(String message) {
@@ -9,4 +13,23 @@ public class TranslationException extends Exception {
   public TranslationException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  public static TranslationException unwrap(Throwable throwable) {
+
+    Throwable cause = throwable;
+
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+
+    if (cause instanceof TranslationException translationException) {
+      return translationException;
+    }
+
+    if (cause instanceof TimeoutException) {
+      return new TranslationException("Translation timed out", cause);
+    }
+
+    return new TranslationException(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName(), cause);
+  }
 }
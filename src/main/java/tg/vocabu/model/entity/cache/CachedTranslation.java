@@ -0,0 +1,43 @@
+package tg.vocabu.model.entity.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "translation_cache", uniqueConstraints = @UniqueConstraint(columnNames = {"source_text", "source_lang", "target_lang"}))
+public class CachedTranslation {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(length = 1000)
+  private String sourceText;
+
+  private String sourceLang;
+  private String targetLang;
+
+  @Column(length = 5000)
+  private String translation;
+
+  private long hits;
+
+  private Instant createdAt;
+  private Instant lastUsedAt;
+}
@@ -0,0 +1,27 @@
+package tg.vocabu.model.entity.dictionary;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "dictionary_sync_state")
+public class DictionarySyncState {
+
+  @Id private String sourcePath;
+
+  private String contentHash;
+
+  private long rowCount;
+
+  private Instant syncedAt;
+}
@@ -1,6 +1,9 @@
 package tg.vocabu.model.entity.dictionary;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -10,7 +13,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import tg.vocabu.model.entity.user.Word;
+import tg.vocabu.model.enums.DictionarySource;
 
 @Entity
 @Getter
@@ -28,6 +33,12 @@ public class DictionaryWord {
   private String english;
   private String ukrainian;
 
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  @ColumnDefault("'RUNTIME'")
+  private DictionarySource source = DictionarySource.RUNTIME;
+
   public Word toWord() {
     return Word.builder().english(english).ukrainian(ukrainian).build();
   }
@@ -0,0 +1,3 @@
+package tg.vocabu.model.entity.dto;
+
+public record LanguageCount(String languageCode, long count) {}
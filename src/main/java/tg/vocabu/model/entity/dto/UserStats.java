@@ -0,0 +1,3 @@
+package tg.vocabu.model.entity.dto;
+
+public record UserStats(long total, long banned, long bots) {}
@@ -3,6 +3,7 @@ package tg.vocabu.model.entity.temp;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,4 +20,6 @@ public class CallbackQueryTemp {
   @Id private Long chatId;
 
   private String callbackQuery;
+
+  private Instant expiresAt;
 }
@@ -1,14 +1,16 @@
 package tg.vocabu.model.entity.temp;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import tg.vocabu.model.enums.LanguageCode;
 import tg.vocabu.model.enums.TranslationMethod;
 
 @Entity
@@ -19,9 +21,7 @@ import tg.vocabu.model.enums.TranslationMethod;
 @Table(name = "words_temp")
 public class WordTemp {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+  @Id private Long id;
 
   private Long chatId;
 
@@ -29,4 +29,9 @@ public class WordTemp {
   private String ukrainian;
 
   private TranslationMethod translationMethod;
+
+  @Enumerated(EnumType.STRING)
+  private LanguageCode sourceLanguage;
+
+  private Instant expiresAt;
 }
@@ -1,15 +1,21 @@
 package tg.vocabu.model.entity.user;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -17,9 +23,19 @@ import lombok.Setter;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "words")
+@Table(
+    name = "words",
+    indexes = {
+      @Index(name = "idx_words_chat_learned_due", columnList = "chat_id, learned, due_at"),
+      @Index(name = "idx_words_chat_learned_id", columnList = "chat_id, learned, id")
+    },
+    uniqueConstraints = @UniqueConstraint(name = "uq_words_chat_english", columnNames = {"chat_id", "english"}))
 public class Word {
 
+  private static final Duration[] REVIEW_INTERVALS = {
+    Duration.ofMinutes(10), Duration.ofDays(1), Duration.ofDays(3), Duration.ofDays(7), Duration.ofDays(14), Duration.ofDays(30)
+  };
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -33,6 +49,20 @@ public class Word {
 
   @Builder.Default private boolean learned = false;
 
+  @ColumnDefault("0")
+  private int reviewBox;
+
+  @Builder.Default
+  @Column(nullable = false)
+  @ColumnDefault("CURRENT_TIMESTAMP")
+  private Instant dueAt = Instant.now();
+
+  public void scheduleReview(boolean remembered, Instant now) {
+
+    this.reviewBox = remembered ? Math.min(this.reviewBox + 1, REVIEW_INTERVALS.length - 1) : 0;
+    this.dueAt = now.plus(REVIEW_INTERVALS[this.reviewBox]);
+  }
+
   public boolean incrementScore(int increment) {
 
     this.score += increment;
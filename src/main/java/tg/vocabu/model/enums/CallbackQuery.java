@@ -4,6 +4,9 @@ public enum CallbackQuery {
   ADD_TO_VOCABULARY,
   ADD_OWN_TRANSLATION,
 
+  DID_YOU_MEAN,
+  TRANSLATE_AS_TYPED,
+
   ADD_TO_DICTIONARY,
   BAN_USER,
   UNBAN_USER,
@@ -11,5 +14,13 @@ public enum CallbackQuery {
   START_EXERCISE,
   SKIP_EXERCISE,
   CORRECT_EXERCISE_ANSWER,
-  WRONG_EXERCISE_ANSWER
+  WRONG_EXERCISE_ANSWER,
+
+  VOCABULARY_NEXT_PAGE,
+  VOCABULARY_PREVIOUS_PAGE,
+  LEARNED_NEXT_PAGE,
+  LEARNED_PREVIOUS_PAGE,
+
+  USERS_NEXT_PAGE,
+  USERS_PREVIOUS_PAGE
 }
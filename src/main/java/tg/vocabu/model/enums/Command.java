@@ -18,6 +18,8 @@ public enum Command {
   STATS("/stats", true),
   CLEAR_VOCABULARY("/clear_vocabulary", false),
   CLEAR("/clear", true),
+  QUEUE("/queue", true),
+  RELOAD("/reload", true),
   UNKNOWN("", false);
 
   private final String command;
@@ -0,0 +1,6 @@
+package tg.vocabu.model.enums;
+
+public enum DictionarySource {
+  FILE,
+  RUNTIME
+}
@@ -1,8 +1,19 @@
 package tg.vocabu.repository;
 
+import jakarta.transaction.Transactional;
+import java.time.Instant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tg.vocabu.model.entity.temp.CallbackQueryTemp;
 
 @Repository
-public interface CallbackQueryRepository extends JpaRepository<CallbackQueryTemp, Long> {}
+public interface CallbackQueryRepository extends JpaRepository<CallbackQueryTemp, Long> {
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM CallbackQueryTemp c WHERE c.expiresAt <= :now")
+  int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,8 @@
+package tg.vocabu.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import tg.vocabu.model.entity.dictionary.DictionarySyncState;
+
+@Repository
+public interface DictionarySyncStateRepository extends JpaRepository<DictionarySyncState, String> {}
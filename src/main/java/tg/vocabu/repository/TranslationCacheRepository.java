@@ -0,0 +1,16 @@
+package tg.vocabu.repository;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import tg.vocabu.model.entity.cache.CachedTranslation;
+
+@Repository
+public interface TranslationCacheRepository extends JpaRepository<CachedTranslation, Long> {
+
+  Optional<CachedTranslation> findBySourceTextAndSourceLangAndTargetLang(String sourceText, String sourceLang, String targetLang);
+
+  List<CachedTranslation> findAllByOrderByHitsDesc(Pageable pageable);
+}
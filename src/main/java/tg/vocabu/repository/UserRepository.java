@@ -1,23 +1,45 @@
 package tg.vocabu.repository;
 
 import jakarta.transaction.Transactional;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tg.vocabu.model.entity.dto.LanguageCount;
+import tg.vocabu.model.entity.dto.UserStats;
 import tg.vocabu.model.entity.user.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-  boolean existsByChatId(Long chatId);
+  @Query("SELECT u.id FROM User u WHERE u.banned = true")
+  List<Long> findBannedIds();
 
-  @Query("SELECT u.banned FROM User u WHERE u.chatId = :chatId")
-  Boolean isBanned(@Param("chatId") Long chatId);
+  @Query(
+      "SELECT new tg.vocabu.model.entity.dto.UserStats("
+          + "COUNT(u), COUNT(CASE WHEN u.banned = true THEN 1 END), COUNT(CASE WHEN u.isBot = true THEN 1 END)) "
+          + "FROM User u")
+  UserStats getStats();
 
-  @Query("SELECT u.userName FROM User u WHERE u.id = :id")
-  String findUserNameById(@Param("id") Long id);
+  @Query(
+      "SELECT new tg.vocabu.model.entity.dto.LanguageCount(u.languageCode, COUNT(u)) "
+          + "FROM User u GROUP BY u.languageCode ORDER BY COUNT(u) DESC")
+  List<LanguageCount> countByLanguageCode();
+
+  @Query("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+  List<User> findPageAfter(@Param("afterId") long afterId, Pageable pageable);
+
+  @Query("SELECT u FROM User u WHERE u.id < :beforeId ORDER BY u.id DESC")
+  List<User> findPageBefore(@Param("beforeId") long beforeId, Pageable pageable);
+
+  @Query("SELECT u FROM User u WHERE LOWER(u.userName) LIKE :pattern ESCAPE '\\' AND u.id > :afterId ORDER BY u.id ASC")
+  List<User> searchPageAfter(@Param("pattern") String pattern, @Param("afterId") long afterId, Pageable pageable);
+
+  @Query("SELECT u FROM User u WHERE LOWER(u.userName) LIKE :pattern ESCAPE '\\' AND u.id < :beforeId ORDER BY u.id DESC")
+  List<User> searchPageBefore(@Param("pattern") String pattern, @Param("beforeId") long beforeId, Pageable pageable);
 
   @Transactional
   @Modifying(clearAutomatically = true)
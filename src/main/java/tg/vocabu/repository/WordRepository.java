@@ -1,8 +1,11 @@
 package tg.vocabu.repository;
 
 import jakarta.transaction.Transactional;
+import java.time.Instant;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,13 +14,27 @@ import tg.vocabu.model.entity.user.Word;
 @Repository
 public interface WordRepository extends JpaRepository<Word, Long> {
 
-  @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END " + "FROM Word w " + "WHERE w.english = :english OR w.ukrainian = :ukrainian")
-  boolean existsByEnglishOrUkrainian(@Param("english") String english, @Param("ukrainian") String ukrainian);
+  @Query("SELECT w.english FROM Word w WHERE w.chatId = :chatId AND w.english IS NOT NULL")
+  List<String> findEnglishByChatId(@Param("chatId") long chatId);
 
-  @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END " + "FROM Word w " + "WHERE w.english = :english")
-  boolean existsByEnglish(@Param("english") String english);
+  @Query("SELECT w FROM Word w WHERE w.chatId = :chatId AND w.learned = :learned AND w.id > :afterId ORDER BY w.id ASC")
+  List<Word> findPageAfter(@Param("chatId") long chatId, @Param("learned") boolean learned, @Param("afterId") long afterId, Pageable pageable);
 
-  List<Word> findByChatIdAndLearned(long chatId, boolean learned);
+  @Query("SELECT w FROM Word w WHERE w.chatId = :chatId AND w.learned = :learned AND w.id < :beforeId ORDER BY w.id DESC")
+  List<Word> findPageBefore(@Param("chatId") long chatId, @Param("learned") boolean learned, @Param("beforeId") long beforeId, Pageable pageable);
+
+  @Query("SELECT w FROM Word w WHERE w.chatId = :chatId AND w.learned = false ORDER BY w.dueAt ASC")
+  List<Word> findDueWords(@Param("chatId") long chatId, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE Word w SET w.score = :score, w.learned = :learned, w.reviewBox = :reviewBox, w.dueAt = :dueAt WHERE w.id = :id")
+  int updateProgress(
+      @Param("id") Long id,
+      @Param("score") int score,
+      @Param("learned") boolean learned,
+      @Param("reviewBox") int reviewBox,
+      @Param("dueAt") Instant dueAt);
 
   @Transactional
   void deleteByChatId(long chatId);
@@ -1,8 +1,24 @@
 package tg.vocabu.repository;
 
+import jakarta.transaction.Transactional;
+import java.time.Instant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tg.vocabu.model.entity.temp.WordTemp;
 
 @Repository
-public interface WordTempRepository extends JpaRepository<WordTemp, Long> {}
+public interface WordTempRepository extends JpaRepository<WordTemp, Long> {
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM WordTemp w WHERE w.chatId = :chatId")
+  int deleteByChatId(@Param("chatId") long chatId);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM WordTemp w WHERE w.expiresAt <= :now")
+  int deleteExpired(@Param("now") Instant now);
+}
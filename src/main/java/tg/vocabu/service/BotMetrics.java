@@ -0,0 +1,155 @@
+package tg.vocabu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Service;
+import tg.vocabu.model.enums.CallbackQuery;
+import tg.vocabu.model.enums.Command;
+import tg.vocabu.model.enums.TranslationMethod;
+
+@Service
+public class BotMetrics {
+
+  private static final String UPDATE_TIMER = "vocabu.update";
+  private static final String SEND_TIMER = "vocabu.telegram.send";
+  private static final String GOOGLE_TIMER = "vocabu.google.request";
+  private static final String TRANSLATION_COUNTER = "vocabu.translations";
+  private static final String OUTBOUND_QUEUE_GAUGE = "vocabu.telegram.outbound.queue";
+  private static final String OUTBOUND_WAIT_TIMER = "vocabu.telegram.outbound.wait";
+  private static final String OUTBOUND_RETRY_COUNTER = "vocabu.telegram.outbound.retries";
+  private static final String OUTBOUND_DROP_COUNTER = "vocabu.telegram.outbound.dropped";
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<Command, Timer> commandTimers = new EnumMap<>(Command.class);
+  private final Map<CallbackQuery, Timer> callbackTimers = new EnumMap<>(CallbackQuery.class);
+  private final Map<TranslationMethod, Counter> translationCounters = new EnumMap<>(TranslationMethod.class);
+
+  private final Timer sendSuccessTimer;
+  private final Timer sendFailureTimer;
+  private final Timer outboundWaitTimer;
+  private final Timer inlineQueryTimer;
+
+  public BotMetrics(MeterRegistry meterRegistry) {
+
+    this.meterRegistry = meterRegistry;
+
+    for (Command command : Command.values()) {
+      commandTimers.put(command, updateTimer("command", command.name()));
+    }
+
+    for (CallbackQuery callbackQuery : CallbackQuery.values()) {
+      callbackTimers.put(callbackQuery, updateTimer("callback", callbackQuery.name()));
+    }
+
+    for (TranslationMethod method : TranslationMethod.values()) {
+      translationCounters.put(
+          method,
+          Counter.builder(TRANSLATION_COUNTER).description("Translations served, by source").tag("method", method.name()).register(meterRegistry));
+    }
+
+    this.sendSuccessTimer = sendTimer("success");
+    this.sendFailureTimer = sendTimer("failure");
+    this.inlineQueryTimer = updateTimer("inline", "query");
+
+    this.outboundWaitTimer =
+        Timer.builder(OUTBOUND_WAIT_TIMER)
+            .description("Time an outbound message waited in the queue before its first send attempt")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  public Timer.Sample startTimer() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void recordCommand(Timer.Sample sample, Command command) {
+    sample.stop(commandTimers.get(command));
+  }
+
+  public void recordCallback(Timer.Sample sample, CallbackQuery callbackQuery) {
+    sample.stop(callbackTimers.get(callbackQuery));
+  }
+
+  public void recordInlineQuery(Timer.Sample sample) {
+    sample.stop(inlineQueryTimer);
+  }
+
+  public void recordSend(Timer.Sample sample, boolean success) {
+    sample.stop(success ? sendSuccessTimer : sendFailureTimer);
+  }
+
+  public void recordOutboundWait(long elapsedNanos) {
+    outboundWaitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void countSendRetry(String reason) {
+
+    Counter.builder(OUTBOUND_RETRY_COUNTER)
+        .description("Outbound send retries, by reason")
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  public void countSendDropped(String reason) {
+
+    Counter.builder(OUTBOUND_DROP_COUNTER)
+        .description("Outbound messages given up on, by reason")
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  public void monitorOutboundQueue(AtomicInteger queueDepth) {
+
+    Gauge.builder(OUTBOUND_QUEUE_GAUGE, queueDepth, AtomicInteger::get)
+        .description("Messages waiting to be sent to Telegram")
+        .register(meterRegistry);
+  }
+
+  public void recordGoogleRequest(long elapsedNanos, String status) {
+
+    Timer.builder(GOOGLE_TIMER)
+        .description("Google Translate HTTP round trips, by response status")
+        .tag("status", status)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void countTranslation(TranslationMethod method) {
+    translationCounters.get(method).increment();
+  }
+
+  public void monitorCache(Cache<?, ?> cache, String name) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+  }
+
+  private Timer updateTimer(String type, String name) {
+
+    return Timer.builder(UPDATE_TIMER)
+        .description("Time spent handling a Telegram update, excluding the reply send")
+        .tag("type", type)
+        .tag("name", name)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private Timer sendTimer(String outcome) {
+
+    return Timer.builder(SEND_TIMER)
+        .description("Latency of bot.execute calls to the Telegram API")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
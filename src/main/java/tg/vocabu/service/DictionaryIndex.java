@@ -0,0 +1,331 @@
+package tg.vocabu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tg.vocabu.model.entity.dictionary.DictionaryWord;
+import tg.vocabu.repository.DictionaryRepository;
+import tg.vocabu.util.SymSpellIndex;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DictionaryIndex {
+
+  private static final int OBJECT_HEADER_BYTES = 16;
+  private static final int STRING_BYTES = 24;
+  private static final int MAP_NODE_BYTES = 32;
+  private static final int REFERENCE_BYTES = 4;
+
+  private static final int FUZZY_MAX_DISTANCE = 2;
+  private static final int FUZZY_MIN_LENGTH = 3;
+  private static final int FUZZY_LONG_WORD_LENGTH = 8;
+
+  private static final int PREFIX_CACHE_SIZE = 10000;
+  private static final int PREFIX_RESULTS_LIMIT = 50;
+
+  private final DictionaryRepository dictionaryRepository;
+
+  private volatile Snapshot snapshot = Snapshot.empty();
+
+  public synchronized void reload() {
+
+    long startTime = System.currentTimeMillis();
+
+    List<DictionaryWord> words = dictionaryRepository.findAll();
+
+    Snapshot fresh = Snapshot.empty();
+    List<DictionaryWord> entries = new ArrayList<>(words.size());
+
+    for (DictionaryWord word : words) {
+      if (fresh.put(word).english()) {
+        entries.add(word);
+      }
+    }
+
+    snapshot = fresh.withEntries(entries.toArray(DictionaryWord[]::new));
+
+    log.info("Dictionary index loaded: {} words in {}ms", entries.size(), System.currentTimeMillis() - startTime);
+  }
+
+  public synchronized void add(DictionaryWord word) {
+
+    Snapshot current = snapshot;
+
+    Insertion insertion = current.put(word);
+
+    if (insertion.english() || insertion.ukrainian()) {
+      snapshot = current.withInsertion(word, insertion);
+
+      for (String key : insertion.keys(word)) {
+        current.invalidatePrefixes(key);
+      }
+    }
+
+    log.debug("Dictionary index updated with word: {}", word.getEnglish());
+  }
+
+  public Optional<String> findTranslation(String word) {
+
+    if (word == null || word.isBlank()) {
+      return Optional.empty();
+    }
+
+    String key = fold(word);
+    Snapshot current = snapshot;
+
+    String translation = current.englishToUkrainian.get(key);
+
+    return translation != null ? Optional.of(translation) : Optional.ofNullable(current.ukrainianToEnglish.get(key));
+  }
+
+  public Optional<String> suggest(String word) {
+
+    if (word == null) {
+      return Optional.empty();
+    }
+
+    String key = fold(word);
+
+    if (key.length() < FUZZY_MIN_LENGTH) {
+      return Optional.empty();
+    }
+
+    int distance = key.length() >= FUZZY_LONG_WORD_LENGTH ? FUZZY_MAX_DISTANCE : 1;
+    List<SymSpellIndex.Suggestion> suggestions = snapshot.fuzzyIndex.lookup(key, distance);
+
+    if (suggestions.isEmpty() || suggestions.get(0).distance() == 0) {
+      return Optional.empty();
+    }
+
+    if (suggestions.size() > 1 && suggestions.get(1).distance() == suggestions.get(0).distance()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(suggestions.get(0).term());
+  }
+
+  public List<String> findByPrefix(String prefix, int limit) {
+
+    if (prefix == null || prefix.isBlank() || limit <= 0) {
+      return List.of();
+    }
+
+    Snapshot current = snapshot;
+    List<String> matches = current.prefixCache.get(fold(prefix), key -> scanPrefix(snapshot.sortedKeys, key, PREFIX_RESULTS_LIMIT));
+
+    return matches.size() > limit ? matches.subList(0, limit) : matches;
+  }
+
+  public List<DictionaryWord> sample(int count) {
+
+    DictionaryWord[] entries = snapshot.entries;
+    int size = entries.length;
+    int picks = Math.min(count, size);
+
+    if (picks <= 0) {
+      return List.of();
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Set<Integer> chosen = new HashSet<>(picks * 2);
+    List<DictionaryWord> sample = new ArrayList<>(picks);
+
+    for (int bound = size - picks; bound < size; bound++) {
+
+      int candidate = random.nextInt(bound + 1);
+      int index = chosen.contains(candidate) ? bound : candidate;
+
+      chosen.add(index);
+      sample.add(entries[index]);
+    }
+
+    return sample;
+  }
+
+  public int size() {
+    return snapshot.entries.length;
+  }
+
+  public long estimateMemoryBytes() {
+
+    Snapshot current = snapshot;
+
+    Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+    strings.addAll(current.englishToUkrainian.keySet());
+    strings.addAll(current.englishToUkrainian.values());
+    strings.addAll(current.ukrainianToEnglish.keySet());
+    strings.addAll(current.ukrainianToEnglish.values());
+
+    long bytes = 0;
+
+    for (String string : strings) {
+      bytes += estimateStringBytes(string);
+    }
+
+    for (Map<String, String> map : List.of(current.englishToUkrainian, current.ukrainianToEnglish)) {
+      bytes += (long) map.size() * MAP_NODE_BYTES;
+      bytes += (long) Integer.highestOneBit(Math.max(1, map.size() * 2)) * REFERENCE_BYTES;
+    }
+
+    bytes += OBJECT_HEADER_BYTES + (long) current.entries.length * REFERENCE_BYTES;
+    bytes += OBJECT_HEADER_BYTES + (long) current.sortedKeys.length * REFERENCE_BYTES;
+    bytes += current.fuzzyIndex.estimateMemoryBytes();
+
+    return bytes;
+  }
+
+  static String fold(String word) {
+    return word.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static List<String> scanPrefix(String[] sortedKeys, String prefix, int limit) {
+
+    int index = Arrays.binarySearch(sortedKeys, prefix);
+    int start = index >= 0 ? index : -index - 1;
+
+    List<String> matches = new ArrayList<>(Math.min(limit, 16));
+
+    for (int i = start; i < sortedKeys.length && matches.size() < limit && sortedKeys[i].startsWith(prefix); i++) {
+      matches.add(sortedKeys[i]);
+    }
+
+    return List.copyOf(matches);
+  }
+
+  private static long estimateStringBytes(String string) {
+
+    boolean latin1 = string.chars().allMatch(c -> c < 256);
+    long valueBytes = OBJECT_HEADER_BYTES + (long) string.length() * (latin1 ? 1 : 2);
+
+    return STRING_BYTES + align(valueBytes);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  private record Snapshot(
+      Map<String, String> englishToUkrainian,
+      Map<String, String> ukrainianToEnglish,
+      DictionaryWord[] entries,
+      SymSpellIndex fuzzyIndex,
+      String[] sortedKeys,
+      Cache<String, List<String>> prefixCache) {
+
+    static Snapshot empty() {
+      return new Snapshot(
+          new ConcurrentHashMap<>(),
+          new ConcurrentHashMap<>(),
+          new DictionaryWord[0],
+          SymSpellIndex.empty(FUZZY_MAX_DISTANCE),
+          new String[0],
+          newPrefixCache());
+    }
+
+    Snapshot withEntries(DictionaryWord[] entries) {
+
+      List<String> terms = new ArrayList<>(englishToUkrainian.size() + ukrainianToEnglish.size());
+      terms.addAll(englishToUkrainian.keySet());
+      terms.addAll(ukrainianToEnglish.keySet());
+
+      String[] sortedKeys = terms.stream().distinct().sorted().toArray(String[]::new);
+
+      return new Snapshot(
+          englishToUkrainian, ukrainianToEnglish, entries, SymSpellIndex.of(terms, FUZZY_MAX_DISTANCE), sortedKeys, newPrefixCache());
+    }
+
+    Snapshot withInsertion(DictionaryWord word, Insertion insertion) {
+
+      DictionaryWord[] extended = entries;
+
+      if (insertion.english()) {
+        extended = Arrays.copyOf(entries, entries.length + 1);
+        extended[entries.length] = word;
+      }
+
+      String[] keys = sortedKeys;
+
+      for (String key : insertion.keys(word)) {
+        if (fuzzyIndex.add(key)) {
+          keys = insertSorted(keys, key);
+        }
+      }
+
+      return new Snapshot(englishToUkrainian, ukrainianToEnglish, extended, fuzzyIndex, keys, prefixCache);
+    }
+
+    void invalidatePrefixes(String key) {
+
+      for (int length = 1; length <= key.length(); length++) {
+        prefixCache.invalidate(key.substring(0, length));
+      }
+    }
+
+    static String[] insertSorted(String[] keys, String key) {
+
+      int index = Arrays.binarySearch(keys, key);
+
+      if (index >= 0) {
+        return keys;
+      }
+
+      int insertAt = -index - 1;
+      String[] extended = new String[keys.length + 1];
+
+      System.arraycopy(keys, 0, extended, 0, insertAt);
+      extended[insertAt] = key;
+      System.arraycopy(keys, insertAt, extended, insertAt + 1, keys.length - insertAt);
+
+      return extended;
+    }
+
+    static Cache<String, List<String>> newPrefixCache() {
+      return Caffeine.newBuilder().maximumSize(PREFIX_CACHE_SIZE).build();
+    }
+
+    Insertion put(DictionaryWord word) {
+
+      if (word.getEnglish() == null || word.getUkrainian() == null) {
+        return new Insertion(false, false);
+      }
+
+      boolean english = englishToUkrainian.putIfAbsent(fold(word.getEnglish()), word.getUkrainian()) == null;
+      boolean ukrainian = ukrainianToEnglish.putIfAbsent(fold(word.getUkrainian()), word.getEnglish()) == null;
+
+      return new Insertion(english, ukrainian);
+    }
+  }
+
+  private record Insertion(boolean english, boolean ukrainian) {
+
+    List<String> keys(DictionaryWord word) {
+
+      List<String> keys = new ArrayList<>(2);
+
+      if (english) {
+        keys.add(fold(word.getEnglish()));
+      }
+
+      if (ukrainian) {
+        keys.add(fold(word.getUkrainian()));
+      }
+
+      return keys;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package tg.vocabu.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import tg.vocabu.config.DictionaryConfig;
+import tg.vocabu.util.DictionaryImporter;
+import tg.vocabu.util.DictionarySynchronizer.SyncResult;
+
+@Slf4j
+@Service
+public class DictionaryReloader {
+
+  private final DictionaryConfig dictionaryConfig;
+  private final DictionaryImporter dictionaryImporter;
+  private final DictionaryIndex dictionaryIndex;
+
+  private final ExecutorService executor;
+  private final AtomicReference<CompletableFuture<ReloadReport>> pendingReload = new AtomicReference<>();
+
+  private volatile WatchService watchService;
+  private volatile ReloadReport lastReport;
+
+  public DictionaryReloader(DictionaryConfig dictionaryConfig, DictionaryImporter dictionaryImporter, DictionaryIndex dictionaryIndex) {
+
+    this.dictionaryConfig = dictionaryConfig;
+    this.dictionaryImporter = dictionaryImporter;
+    this.dictionaryIndex = dictionaryIndex;
+
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "dictionary-reloader");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public CompletableFuture<ReloadReport> reload(String trigger) {
+
+    CompletableFuture<ReloadReport> reload = new CompletableFuture<>();
+    CompletableFuture<ReloadReport> pending = pendingReload.compareAndExchange(null, reload);
+
+    if (pending != null) {
+      log.debug("Dictionary reload already queued, joining it ({})", trigger);
+      return pending;
+    }
+
+    executor.execute(
+        () -> {
+          pendingReload.set(null);
+
+          try {
+            reload.complete(runReload(trigger));
+          } catch (Exception e) {
+            log.error("Dictionary reload failed ({}): {}", trigger, e.getMessage());
+            reload.completeExceptionally(e);
+          }
+        });
+
+    return reload;
+  }
+
+  public Optional<ReloadReport> getLastReport() {
+    return Optional.ofNullable(lastReport);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void startWatching() {
+
+    if (!dictionaryConfig.isWatchEnabled()) {
+      return;
+    }
+
+    Path source = Path.of(dictionaryConfig.getSourceFilePath()).toAbsolutePath();
+    Path directory = source.getParent();
+
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      directory.register(
+          watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+    } catch (IOException e) {
+      log.warn("Failed to watch dictionary source {}: {}", source, e.getMessage());
+      return;
+    }
+
+    Thread watcher = new Thread(() -> watch(source), "dictionary-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+
+    log.info("Watching dictionary source for changes: {}", source);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+
+    try {
+      if (watchService != null) {
+        watchService.close();
+      }
+    } catch (IOException e) {
+      log.warn("Failed to close dictionary watcher: {}", e.getMessage());
+    }
+
+    executor.shutdownNow();
+  }
+
+  private void watch(Path source) {
+
+    long debounceMillis = dictionaryConfig.getWatchDebounce().toMillis();
+    boolean changed = false;
+
+    try {
+      while (true) {
+
+        WatchKey key = changed ? watchService.poll(debounceMillis, TimeUnit.MILLISECONDS) : watchService.take();
+
+        if (key == null) {
+          changed = false;
+          reload("file change");
+          continue;
+        }
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.context() instanceof Path changedPath && source.getFileName().equals(changedPath)) {
+            changed = true;
+          }
+        }
+
+        key.reset();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      log.debug("Dictionary watcher stopped");
+    }
+  }
+
+  private ReloadReport runReload(String trigger) throws Exception {
+
+    long startTime = System.nanoTime();
+    int wordsBefore = dictionaryIndex.size();
+
+    Optional<SyncResult> result = dictionaryImporter.importFromSource();
+
+    if (result.isPresent()) {
+      dictionaryIndex.reload();
+    }
+
+    ReloadReport report =
+        new ReloadReport(
+            trigger,
+            result.isPresent(),
+            result.map(SyncResult::inserted).orElse(0L),
+            result.map(SyncResult::updated).orElse(0L),
+            result.map(SyncResult::deleted).orElse(0L),
+            wordsBefore,
+            dictionaryIndex.size(),
+            (System.nanoTime() - startTime) / 1_000_000);
+
+    lastReport = report;
+
+    log.info(
+        "Dictionary reload ({}) finished in {}ms: {} -> {} words, +{} ~{} -{}",
+        trigger,
+        report.elapsedMillis(),
+        report.wordsBefore(),
+        report.wordsAfter(),
+        report.inserted(),
+        report.updated(),
+        report.deleted());
+
+    return report;
+  }
+
+  public record ReloadReport(
+      String trigger, boolean changed, long inserted, long updated, long deleted, int wordsBefore, int wordsAfter, long elapsedMillis) {}
+}
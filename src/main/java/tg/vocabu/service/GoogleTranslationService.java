@@ -1,6 +1,12 @@
 package tg.vocabu.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -8,102 +14,388 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import lombok.RequiredArgsConstructor;
+import java.util.zip.GZIPInputStream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import tg.vocabu.config.GoogleClientConfig;
+import tg.vocabu.config.TranslationCacheConfig;
+import tg.vocabu.exception.RateLimitExceededException;
+import tg.vocabu.exception.ServiceUnavailableException;
 import tg.vocabu.exception.TranslationException;
+import tg.vocabu.model.entity.cache.CachedTranslation;
+import tg.vocabu.service.resilience.CircuitBreaker;
+import tg.vocabu.service.resilience.ExponentialBackoff;
+import tg.vocabu.service.resilience.TokenBucket;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GoogleTranslationService {
 
   private static final String TRANSLATE_URL = "https://translate.googleapis.com/translate_a/single";
   private static final String USER_AGENT =
       "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36";
 
-  private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+  private static final int EXECUTOR_THREADS = 8;
+  private static final Duration DEADLINE_MARGIN = Duration.ofSeconds(1);
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(EXECUTOR_THREADS, daemonThreadFactory("google-translate"));
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).connectTimeout(Duration.ofSeconds(10)).executor(executor).build();
   private final ObjectMapper objectMapper = new ObjectMapper();
-  private final Map<String, String> translationCache = new ConcurrentHashMap<>();
+
+  private final TranslationCacheConfig cacheConfig;
+  private final Cache<TranslationKey, String> translationCache;
+
+  private final TokenBucket rateLimiter;
+  private final long rateLimitWaitNanos;
+  private final Duration requestTimeout;
+  private final ExponentialBackoff backoff;
+  private final CircuitBreaker circuitBreaker;
+
+  private final PersistentTranslationCache persistentCache;
+  private final BotMetrics botMetrics;
+  private final Map<TranslationKey, CompletableFuture<String>> inFlightTranslations = new ConcurrentHashMap<>();
+
+  private final LongAdder coalescedCount = new LongAdder();
+  private final LongAdder persistentHitCount = new LongAdder();
+  private final LongAdder loadCount = new LongAdder();
+  private final LongAdder loadFailureCount = new LongAdder();
+  private final LongAdder totalLoadNanos = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+
+  public GoogleTranslationService(
+      TranslationCacheConfig cacheConfig, GoogleClientConfig clientConfig, PersistentTranslationCache persistentCache, BotMetrics botMetrics) {
+
+    this.cacheConfig = cacheConfig;
+    this.persistentCache = persistentCache;
+    this.botMetrics = botMetrics;
+
+    this.rateLimiter = new TokenBucket(clientConfig.getMaxRequestsPerSecond(), clientConfig.getMinRequestsPerSecond(), clientConfig.getBurstCapacity());
+    this.requestTimeout = clientConfig.getRequestTimeout();
+    this.rateLimitWaitNanos = boundedRateLimitWait(clientConfig).toNanos();
+    this.backoff = new ExponentialBackoff(clientConfig.getBackoffBaseDelay(), clientConfig.getBackoffMaxDelay());
+    this.circuitBreaker =
+        new CircuitBreaker("google-translate", clientConfig.getFailureThreshold(), clientConfig.getOpenDuration(), clientConfig.getHalfOpenProbes());
+
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheConfig.getMaximumSize()).recordStats();
+
+    if (cacheConfig.getExpireAfterWrite() != null) {
+      builder.expireAfterWrite(cacheConfig.getExpireAfterWrite());
+    }
+
+    this.translationCache = builder.build();
+    botMetrics.monitorCache(translationCache, "google.translations");
+  }
 
   public String translate(String text, String sourceLang, String targetLang) throws TranslationException {
 
+    try {
+      return translateAsync(text, sourceLang, targetLang).get();
+
+    } catch (ExecutionException e) {
+      throw TranslationException.unwrap(e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TranslationException("Interrupted while waiting for translation", e);
+    }
+  }
+
+  public CompletableFuture<String> translateAsync(String text, String sourceLang, String targetLang) {
+
     if (text == null || text.trim().isEmpty()) {
-      throw new TranslationException("Text cannot be null or empty");
+      return CompletableFuture.failedFuture(new TranslationException("Text cannot be null or empty"));
     }
 
     if (text.length() > 5000) {
-      throw new TranslationException("Text too long. Supports up to 5000 characters.");
+      return CompletableFuture.failedFuture(new TranslationException("Text too long. Supports up to 5000 characters."));
     }
 
-    String cacheKey = generateCacheKey(text, sourceLang, targetLang);
-    String cachedResult = translationCache.get(cacheKey);
+    TranslationKey cacheKey = new TranslationKey(text, sourceLang, targetLang);
+    String cachedResult = translationCache.getIfPresent(cacheKey);
 
     if (cachedResult != null) {
       log.trace("Returning cached translation for: {}", text.substring(0, Math.min(50, text.length())));
-      return cachedResult;
+
+      persistentCache.recordHit(cacheKey);
+      return CompletableFuture.completedFuture(cachedResult);
     }
 
-    try {
-      String translatedText = performTranslation(text, sourceLang, targetLang);
+    CompletableFuture<String> inFlight = new CompletableFuture<>();
+    CompletableFuture<String> existing = inFlightTranslations.putIfAbsent(cacheKey, inFlight);
 
-      translationCache.put(cacheKey, translatedText);
+    if (existing != null) {
+      log.trace("Joining in-flight translation for: {}", text.substring(0, Math.min(50, text.length())));
 
-      log.debug(
-          "Translation successful: '{}' -> '{}'",
-          text.substring(0, Math.min(50, text.length())),
-          translatedText.substring(0, Math.min(50, translatedText.length())));
+      coalescedCount.increment();
+      return existing.copy();
+    }
 
-      return translatedText;
+    loadTranslation(cacheKey)
+        .whenComplete(
+            (translatedText, error) -> {
+              if (error != null) {
+                inFlight.completeExceptionally(TranslationException.unwrap(error));
+              } else {
+                inFlight.complete(translatedText);
+              }
 
-    } catch (Exception e) {
-      throw new TranslationException("Translation failed: " + e.getMessage(), e);
-    }
+              inFlightTranslations.remove(cacheKey, inFlight);
+            });
+
+    return inFlight.copy();
   }
 
   public boolean isAvailable() {
 
     try {
-      String testResult = translate("Hello", "en", "es");
+      String testResult = startTranslation("Hello", "en", "es").get(requestTimeout.plus(DEADLINE_MARGIN).toMillis(), TimeUnit.MILLISECONDS);
       return testResult != null && !testResult.trim().isEmpty();
 
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+
     } catch (Exception e) {
-      log.warn("Google Translate availability check failed: {}", e.getMessage());
+      log.warn("Google Translate availability check failed: {}", TranslationException.unwrap(e).getMessage());
       return false;
     }
   }
 
   public String getStatus() {
 
+    long startTime = System.currentTimeMillis();
+    boolean available = isAvailable();
+    long responseTime = System.currentTimeMillis() - startTime;
+
+    return String.format(
+        "%s\n"
+            + "Response time: %dms\n\n"
+            + "Circuit breaker: %s\n"
+            + "Consecutive failures: %d\n"
+            + "Rejected calls: %d\n"
+            + "Reopens probing in: %dms\n\n"
+            + "Rate limit: %.2f req/s\n"
+            + "Backoff remaining: %dms",
+        available ? "✅ Google Translate: ONLINE" : "❌ Google Translate: OFFLINE",
+        responseTime,
+        circuitBreaker.getState(),
+        circuitBreaker.getConsecutiveFailures(),
+        rejectedCount.sum(),
+        circuitBreaker.getRemainingOpenMillis(),
+        rateLimiter.getRatePerSecond(),
+        backoff.getRemainingMillis());
+  }
+
+  public CircuitBreaker.State getCircuitState() {
+    return circuitBreaker.getState();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+
+    long startTime = System.currentTimeMillis();
+
     try {
-      long startTime = System.currentTimeMillis();
-      boolean available = isAvailable();
-      long responseTime = System.currentTimeMillis() - startTime;
+      List<CachedTranslation> hottest = persistentCache.findHottest();
 
-      return String.format("✅ Google Translate: ONLINE\n" + "Response time: %dms\n" + "Is Available: %s", responseTime, available);
+      hottest.forEach(
+          cached ->
+              translationCache.put(new TranslationKey(cached.getSourceText(), cached.getSourceLang(), cached.getTargetLang()), cached.getTranslation()));
+
+      log.info("Translation cache warmed up with {} entries in {}ms", hottest.size(), System.currentTimeMillis() - startTime);
 
     } catch (Exception e) {
-      return "❌ Google Translate: OFFLINE\nError: " + e.getMessage();
+      log.warn("Translation cache warm-up failed: {}", e.getMessage());
     }
   }
 
   public void clearCache() {
 
-    translationCache.clear();
+    translationCache.invalidateAll();
 
     log.info("Google Translate cache cleared");
   }
 
+  public void clearPersistentCache() {
+    persistentCache.clear();
+  }
+
   public Map<String, Object> getCacheStats() {
-    return Map.of("cacheSize", translationCache.size(), "cachingEnabled", true, "provider", "Google Translate");
+
+    CacheStats stats = translationCache.stats();
+
+    long loads = loadCount.sum() + loadFailureCount.sum();
+    long averageLoadMillis = loads == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLoadNanos.sum() / loads);
+
+    Map<String, Object> cacheStats = new LinkedHashMap<>();
+    cacheStats.put("provider", "Google Translate");
+    cacheStats.put("cachingEnabled", true);
+    cacheStats.put("cacheSize", translationCache.estimatedSize());
+    cacheStats.put("maximumSize", cacheConfig.getMaximumSize());
+    cacheStats.put("expireAfterWrite", cacheConfig.getExpireAfterWrite() != null ? cacheConfig.getExpireAfterWrite().toString() : "never");
+    cacheStats.put("hitCount", stats.hitCount());
+    cacheStats.put("missCount", stats.missCount());
+    cacheStats.put("hitRate", stats.hitRate());
+    cacheStats.put("evictionCount", stats.evictionCount());
+    cacheStats.put("persistentSize", persistentCache.size());
+    cacheStats.put("persistentHitCount", persistentHitCount.sum());
+    cacheStats.put("pendingWrites", persistentCache.getPendingWrites());
+    cacheStats.put("inFlight", inFlightTranslations.size());
+    cacheStats.put("coalescedCount", coalescedCount.sum());
+    cacheStats.put("loadCount", loadCount.sum());
+    cacheStats.put("loadFailureCount", loadFailureCount.sum());
+    cacheStats.put("averageLoadMillis", averageLoadMillis);
+
+    return cacheStats;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
   }
 
-  private String performTranslation(String text, String sourceLang, String targetLang) throws Exception {
+  private CompletableFuture<String> loadTranslation(TranslationKey cacheKey) {
+
+    return CompletableFuture.supplyAsync(() -> findPersisted(cacheKey), executor)
+        .thenCompose(
+            persistedResult -> {
+              if (persistedResult.isPresent()) {
+                log.trace("Returning persisted translation for: {}", cacheKey.text().substring(0, Math.min(50, cacheKey.text().length())));
+
+                persistentHitCount.increment();
+                translationCache.put(cacheKey, persistedResult.get());
+                persistentCache.recordHit(cacheKey);
+
+                return CompletableFuture.completedFuture(persistedResult.get());
+              }
+
+              return fetchTranslation(cacheKey);
+            });
+  }
+
+  private CompletableFuture<String> fetchTranslation(TranslationKey cacheKey) {
+
+    String text = cacheKey.text();
+    long loadStartTime = System.nanoTime();
+
+    return callGoogle(text, cacheKey.sourceLang(), cacheKey.targetLang())
+        .handle(
+            (translatedText, error) -> {
+              totalLoadNanos.add(System.nanoTime() - loadStartTime);
+
+              if (error != null) {
+                loadFailureCount.increment();
+
+                TranslationException cause = TranslationException.unwrap(error);
+                throw new CompletionException(new TranslationException("Translation failed: " + cause.getMessage(), cause));
+              }
+
+              translationCache.put(cacheKey, translatedText);
+              persistentCache.store(cacheKey, translatedText);
+
+              loadCount.increment();
+
+              log.debug(
+                  "Translation successful: '{}' -> '{}'",
+                  text.substring(0, Math.min(50, text.length())),
+                  translatedText.substring(0, Math.min(50, translatedText.length())));
+
+              return translatedText;
+            });
+  }
+
+  private CompletableFuture<String> callGoogle(String text, String sourceLang, String targetLang) {
+
+    if (backoff.isActive()) {
+      rejectedCount.increment();
+      return CompletableFuture.failedFuture(
+          new RateLimitExceededException("Google rate limit cooldown, retry in " + backoff.getRemainingMillis() / 1000 + "s", null));
+    }
+
+    if (!circuitBreaker.tryAcquire()) {
+      rejectedCount.increment();
+      return CompletableFuture.failedFuture(new TranslationException("Google Translate is temporarily unavailable. Please try again later."));
+    }
+
+    long waitNanos = rateLimiter.tryReserve(rateLimitWaitNanos);
+
+    if (waitNanos < 0) {
+      circuitBreaker.release();
+      rejectedCount.increment();
+      return CompletableFuture.failedFuture(new RateLimitExceededException("Too many translation requests. Please try again shortly.", null));
+    }
+
+    CompletableFuture<String> call =
+        waitNanos == 0
+            ? startTranslation(text, sourceLang, targetLang)
+            : CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor))
+                .thenCompose(ignored -> startTranslation(text, sourceLang, targetLang));
+
+    return call.whenComplete(
+        (translatedText, error) -> {
+          if (error == null) {
+            circuitBreaker.recordSuccess();
+            rateLimiter.onSuccess();
+            backoff.reset();
+            return;
+          }
+
+          if (isTransient(error)) {
+            circuitBreaker.recordFailure();
+          } else {
+            circuitBreaker.release();
+          }
+
+          if (TranslationException.unwrap(error) instanceof RateLimitExceededException rateLimited) {
+            rateLimiter.onThrottled();
+            Duration delay = backoff.onFailure(rateLimited.getRetryAfter());
+
+            log.warn("Google Translate rate limit hit, backing off for {}ms", delay.toMillis());
+          }
+        });
+  }
+
+  private CompletableFuture<String> startTranslation(String text, String sourceLang, String targetLang) {
+
+    try {
+      return performTranslation(text, sourceLang, targetLang);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private Optional<String> findPersisted(TranslationKey cacheKey) {
+
+    try {
+      return persistentCache.find(cacheKey);
+
+    } catch (Exception e) {
+      log.warn("Persistent translation cache lookup failed: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private CompletableFuture<String> performTranslation(String text, String sourceLang, String targetLang) {
 
     String encodedText = URLEncoder.encode(text, StandardCharsets.UTF_8);
     String url =
@@ -112,24 +404,92 @@ public class GoogleTranslationService {
     HttpRequest request =
         HttpRequest.newBuilder()
             .uri(URI.create(url))
-            .timeout(Duration.ofSeconds(15))
+            .timeout(requestTimeout)
             .header("User-Agent", USER_AGENT)
             .header("Referer", "https://translate.google.com/")
+            .header("Accept-Encoding", "gzip")
             .GET()
             .build();
 
-    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    long startTime = System.nanoTime();
+
+    return httpClient
+        .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .whenComplete((response, error) -> botMetrics.recordGoogleRequest(System.nanoTime() - startTime, responseStatus(response)))
+        .thenApply(
+            response -> {
+              try {
+                String body = decodeBody(response);
+
+                if (response.statusCode() == 200) {
+                  return parseTranslationResponse(body);
+                } else if (response.statusCode() == 429) {
+                  throw new RateLimitExceededException("Rate limit exceeded. Please try again later.", parseRetryAfter(response));
+                } else if (response.statusCode() >= 500) {
+                  throw new ServiceUnavailableException("HTTP " + response.statusCode() + ": " + body);
+                } else {
+                  throw new TranslationException("HTTP " + response.statusCode() + ": " + body);
+                }
+              } catch (TranslationException e) {
+                throw new CompletionException(e);
+              } catch (IOException e) {
+                throw new CompletionException(new TranslationException("Malformed response: " + e.getMessage(), e));
+              }
+            });
+  }
+
+  private static boolean isTransient(Throwable error) {
+
+    Throwable cause = error;
+
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+
+    return cause instanceof IOException || cause instanceof TimeoutException || cause instanceof ServiceUnavailableException;
+  }
+
+  private static Duration boundedRateLimitWait(GoogleClientConfig clientConfig) {
+
+    Duration budget = clientConfig.getTranslationDeadline().minus(clientConfig.getRequestTimeout()).minus(DEADLINE_MARGIN);
+
+    if (clientConfig.getRateLimitWait().compareTo(budget) <= 0) {
+      return clientConfig.getRateLimitWait();
+    }
+
+    log.warn(
+        "google.client.rate-limit-wait {} plus request-timeout exceeds translation-deadline, capping it at {}", clientConfig.getRateLimitWait(), budget);
+
+    return budget.isNegative() ? Duration.ZERO : budget;
+  }
+
+  private static String responseStatus(HttpResponse<byte[]> response) {
+    return response != null ? String.valueOf(response.statusCode()) : "IO_ERROR";
+  }
+
+  private Duration parseRetryAfter(HttpResponse<byte[]> response) {
+
+    try {
+      return response.headers().firstValue("Retry-After").map(value -> Duration.ofSeconds(Long.parseLong(value.trim()))).orElse(null);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private String decodeBody(HttpResponse<byte[]> response) throws IOException {
 
-    if (response.statusCode() == 200) {
-      return parseTranslationResponse(response.body());
-    } else if (response.statusCode() == 429) {
-      throw new Exception("Rate limit exceeded. Please try again later.");
-    } else {
-      throw new Exception("HTTP " + response.statusCode() + ": " + response.body());
+    boolean gzipped = response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false);
+
+    if (!gzipped) {
+      return new String(response.body(), StandardCharsets.UTF_8);
+    }
+
+    try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
     }
   }
 
-  private String parseTranslationResponse(String responseBody) throws TranslationException {
+  String parseTranslationResponse(String responseBody) throws TranslationException {
 
     try {
       if (!responseBody.startsWith("[[")) {
@@ -185,7 +545,14 @@ public class GoogleTranslationService {
     }
   }
 
-  private String generateCacheKey(String text, String sourceLang, String targetLang) {
-    return String.format("%s|%s|%s", text.hashCode(), sourceLang, targetLang);
+  private static ThreadFactory daemonThreadFactory(String name) {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
   }
 }
@@ -0,0 +1,211 @@
+package tg.vocabu.service;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tg.vocabu.config.TranslationCacheConfig;
+import tg.vocabu.model.entity.cache.CachedTranslation;
+import tg.vocabu.repository.TranslationCacheRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PersistentTranslationCache {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO translation_cache (source_text, source_lang, target_lang, translation, hits, created_at, last_used_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+          + "ON CONFLICT (source_text, source_lang, target_lang) DO UPDATE SET "
+          + "translation = EXCLUDED.translation, "
+          + "last_used_at = EXCLUDED.last_used_at";
+
+  private static final String HITS_SQL =
+      "UPDATE translation_cache SET hits = hits + ?, last_used_at = ? WHERE source_text = ? AND source_lang = ? AND target_lang = ?";
+
+  private final TranslationCacheConfig cacheConfig;
+  private final TranslationCacheRepository translationCacheRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<TranslationKey, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+  private final Map<TranslationKey, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+  public Optional<String> find(TranslationKey key) {
+
+    if (!isEnabled(key)) {
+      return Optional.empty();
+    }
+
+    PendingWrite pending = pendingWrites.get(key);
+
+    if (pending != null) {
+      return Optional.of(pending.translation());
+    }
+
+    return translationCacheRepository
+        .findBySourceTextAndSourceLangAndTargetLang(key.text(), key.sourceLang(), key.targetLang())
+        .map(CachedTranslation::getTranslation);
+  }
+
+  public void store(TranslationKey key, String translation) {
+
+    if (!isEnabled(key)) {
+      return;
+    }
+
+    pendingWrites.put(key, new PendingWrite(translation, Instant.now()));
+  }
+
+  public void recordHit(TranslationKey key) {
+
+    if (!isEnabled(key)) {
+      return;
+    }
+
+    pendingHits.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+  }
+
+  public List<CachedTranslation> findHottest() {
+
+    if (!cacheConfig.getPersistent().isEnabled()) {
+      return List.of();
+    }
+
+    return translationCacheRepository.findAllByOrderByHitsDesc(PageRequest.of(0, cacheConfig.getPersistent().getWarmUpSize()));
+  }
+
+  public long size() {
+    return cacheConfig.getPersistent().isEnabled() ? translationCacheRepository.count() : 0;
+  }
+
+  public int getPendingWrites() {
+    return pendingWrites.size() + pendingHits.size();
+  }
+
+  public synchronized void clear() {
+
+    pendingWrites.clear();
+    pendingHits.clear();
+    translationCacheRepository.deleteAllInBatch();
+
+    log.info("Persistent translation cache cleared");
+  }
+
+  @Scheduled(fixedDelayString = "#{@translationCacheConfig.persistent.flushIntervalMillis}")
+  public synchronized void flush() {
+
+    if (pendingWrites.isEmpty()) {
+      return;
+    }
+
+    int batchSize = cacheConfig.getPersistent().getBatchSize();
+    List<Object[]> batch = new ArrayList<>(batchSize);
+    List<Map.Entry<TranslationKey, PendingWrite>> drained = new ArrayList<>(batchSize);
+
+    Iterator<TranslationKey> iterator = pendingWrites.keySet().iterator();
+
+    while (iterator.hasNext()) {
+
+      TranslationKey key = iterator.next();
+      PendingWrite pending = pendingWrites.remove(key);
+
+      if (pending == null) {
+        continue;
+      }
+
+      drained.add(Map.entry(key, pending));
+      batch.add(
+          new Object[] {
+            key.text(),
+            key.sourceLang(),
+            key.targetLang(),
+            pending.translation(),
+            0L,
+            Timestamp.from(pending.lastUsedAt()),
+            Timestamp.from(pending.lastUsedAt())
+          });
+
+      if (batch.size() >= batchSize || !iterator.hasNext()) {
+        writeBatch(batch, drained);
+        batch.clear();
+        drained.clear();
+      }
+    }
+  }
+
+  @Scheduled(fixedDelayString = "#{@translationCacheConfig.persistent.hitFlushIntervalMillis}")
+  public synchronized void flushHits() {
+
+    if (pendingHits.isEmpty()) {
+      return;
+    }
+
+    Timestamp now = Timestamp.from(Instant.now());
+    int batchSize = cacheConfig.getPersistent().getBatchSize();
+    List<Object[]> batch = new ArrayList<>(batchSize);
+
+    Iterator<TranslationKey> iterator = pendingHits.keySet().iterator();
+
+    while (iterator.hasNext()) {
+
+      TranslationKey key = iterator.next();
+      LongAdder hits = pendingHits.remove(key);
+
+      if (hits != null) {
+        batch.add(new Object[] {hits.sum(), now, key.text(), key.sourceLang(), key.targetLang()});
+      }
+
+      if (!batch.isEmpty() && (batch.size() >= batchSize || !iterator.hasNext())) {
+        writeHits(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+    flushHits();
+  }
+
+  private void writeHits(List<Object[]> batch) {
+
+    try {
+      jdbcTemplate.batchUpdate(HITS_SQL, batch);
+      log.debug("Flushed hit counts for {} translations", batch.size());
+
+    } catch (Exception e) {
+      log.warn("Failed to flush hit counts for {} translations: {}", batch.size(), e.getMessage());
+    }
+  }
+
+  private void writeBatch(List<Object[]> batch, List<Map.Entry<TranslationKey, PendingWrite>> drained) {
+
+    try {
+      jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+      log.debug("Flushed {} translations to persistent cache", batch.size());
+
+    } catch (Exception e) {
+      log.error("Failed to flush {} translations to persistent cache: {}", batch.size(), e.getMessage());
+      drained.forEach(entry -> pendingWrites.putIfAbsent(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  private boolean isEnabled(TranslationKey key) {
+    return cacheConfig.getPersistent().isEnabled() && key.text().length() <= cacheConfig.getPersistent().getMaxTextLength();
+  }
+
+  private record PendingWrite(String translation, Instant lastUsedAt) {}
+}
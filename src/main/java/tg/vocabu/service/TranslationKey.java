@@ -0,0 +1,3 @@
+package tg.vocabu.service;
+
+public record TranslationKey(String text, String sourceLang, String targetLang) {}
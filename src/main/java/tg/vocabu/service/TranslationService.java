@@ -1,36 +1,31 @@
 package tg.vocabu.service;
 
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import tg.vocabu.exception.TranslationException;
 import tg.vocabu.model.entity.dictionary.DictionaryWord;
+import tg.vocabu.model.entity.user.Word;
 import tg.vocabu.model.enums.LanguageCode;
-import tg.vocabu.repository.DictionaryRepository;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TranslationService {
 
-  private final DictionaryRepository dictionaryRepository;
+  private final DictionaryIndex dictionaryIndex;
 
-  public String translate(String word) throws TranslationException {
-
-    if (word == null || word.isBlank()) {
-      throw new TranslationException("Input word is null or blank");
-    }
-
-    Optional<String> translation = dictionaryRepository.findTranslation(word);
+  public Optional<String> findTranslation(String word) {
+    return dictionaryIndex.findTranslation(word);
+  }
 
-    if (translation.isEmpty()) {
-      throw new TranslationException(
-          "Translation not found for word: " + word + "\n In our dictionary of " + dictionaryRepository.count() + " words.");
-    }
+  public List<String> findByPrefix(String prefix, int limit) {
+    return dictionaryIndex.findByPrefix(prefix, limit);
+  }
 
-    log.debug("Found translation for word '{}': {}", word, translation.get());
-    return translation.get();
+  public Optional<String> suggestCorrection(String word) {
+    return dictionaryIndex.suggest(word);
   }
 
   public LanguageCode detectLanguage(String word) {
@@ -51,11 +46,24 @@ public class TranslationService {
     return LanguageCode.UNKNOWN;
   }
 
-  public DictionaryWord getRandomWord() {
-    return dictionaryRepository.findRandomWord().orElse(null);
+  public List<Word> getRandomWords(int count, String excludedEnglish) {
+
+    if (count <= 0) {
+      return List.of();
+    }
+
+    return dictionaryIndex.sample(count + 1).stream()
+        .filter(word -> !word.getEnglish().equalsIgnoreCase(excludedEnglish))
+        .limit(count)
+        .map(DictionaryWord::toWord)
+        .toList();
   }
 
   public long getWordsCount() {
-    return dictionaryRepository.count();
+    return dictionaryIndex.size();
+  }
+
+  public long getIndexMemoryBytes() {
+    return dictionaryIndex.estimateMemoryBytes();
   }
 }
@@ -0,0 +1,82 @@
+package tg.vocabu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tg.vocabu.config.UserRegistryConfig;
+import tg.vocabu.model.entity.user.User;
+import tg.vocabu.repository.UserRepository;
+import tg.vocabu.util.LongSet;
+
+@Slf4j
+@Service
+public class UserRegistry {
+
+  private final UserRepository userRepository;
+  private final Cache<Long, User> profiles;
+
+  private volatile LongSet bannedIds = LongSet.empty();
+
+  public UserRegistry(UserRegistryConfig registryConfig, UserRepository userRepository) {
+
+    this.userRepository = userRepository;
+    this.profiles = Caffeine.newBuilder().maximumSize(registryConfig.getProfileCacheSize()).build();
+  }
+
+  @PostConstruct
+  public synchronized void loadBannedIds() {
+
+    List<Long> ids = userRepository.findBannedIds();
+    bannedIds = LongSet.of(ids.stream().mapToLong(Long::longValue).toArray());
+
+    log.info("Loaded {} banned users", bannedIds.size());
+  }
+
+  public boolean isBanned(long id) {
+    return bannedIds.contains(id);
+  }
+
+  public Optional<User> findUser(long id) {
+
+    User user = profiles.getIfPresent(id);
+
+    if (user != null) {
+      return Optional.of(user);
+    }
+
+    Optional<User> loaded = userRepository.findById(id);
+    loaded.ifPresent(found -> profiles.put(id, found));
+
+    return loaded;
+  }
+
+  public void register(User user) {
+
+    User saved = userRepository.save(user);
+    profiles.put(saved.getId(), saved);
+  }
+
+  public synchronized void ban(long id) {
+
+    userRepository.banUserById(id);
+    profiles.invalidate(id);
+
+    bannedIds = bannedIds.with(id);
+  }
+
+  public synchronized void unban(long id) {
+
+    userRepository.unbanUserById(id);
+    profiles.invalidate(id);
+
+    bannedIds = bannedIds.without(id);
+  }
+
+  public int getBannedCount() {
+    return bannedIds.size();
+  }
+}
@@ -0,0 +1,87 @@
+package tg.vocabu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import tg.vocabu.config.VocabularyIndexConfig;
+import tg.vocabu.model.entity.user.Word;
+import tg.vocabu.repository.WordRepository;
+
+@Slf4j
+@Service
+public class VocabularyIndex {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO words (chat_id, english, ukrainian, score, learned, review_box, due_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+          + "ON CONFLICT (chat_id, english) DO NOTHING "
+          + "RETURNING id";
+
+  private final WordRepository wordRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final Cache<Long, Set<String>> members;
+
+  public VocabularyIndex(VocabularyIndexConfig indexConfig, WordRepository wordRepository, JdbcTemplate jdbcTemplate) {
+
+    this.wordRepository = wordRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.members = Caffeine.newBuilder().maximumSize(indexConfig.getMaximumChats()).expireAfterAccess(indexConfig.getIdleTimeout()).build();
+  }
+
+  public boolean contains(long chatId, String english) {
+    return english != null && membersOf(chatId).contains(english);
+  }
+
+  public boolean add(Word word) {
+
+    if (contains(word.getChatId(), word.getEnglish())) {
+      return false;
+    }
+
+    List<Long> ids =
+        jdbcTemplate.query(
+            INSERT_SQL,
+            (rs, rowNum) -> rs.getLong(1),
+            word.getChatId(),
+            word.getEnglish(),
+            word.getUkrainian(),
+            word.getScore(),
+            word.isLearned(),
+            word.getReviewBox(),
+            Timestamp.from(word.getDueAt()));
+
+    membersOf(word.getChatId()).add(word.getEnglish());
+
+    if (ids.isEmpty()) {
+      log.debug("Word already in vocabulary of chat {}: {}", word.getChatId(), word.getEnglish());
+      return false;
+    }
+
+    word.setId(ids.get(0));
+    return true;
+  }
+
+  public void clear(long chatId) {
+
+    wordRepository.deleteByChatId(chatId);
+    members.invalidate(chatId);
+  }
+
+  private Set<String> membersOf(long chatId) {
+    return members.get(chatId, this::load);
+  }
+
+  private Set<String> load(long chatId) {
+
+    Set<String> english = ConcurrentHashMap.newKeySet();
+    english.addAll(wordRepository.findEnglishByChatId(chatId));
+
+    return english;
+  }
+}
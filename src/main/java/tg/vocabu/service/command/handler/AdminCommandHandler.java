@@ -1,47 +1,246 @@
 package tg.vocabu.service.command.handler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+import tg.vocabu.bot.OutboundMessageQueue;
+import tg.vocabu.bot.StripedExecutor;
+import tg.vocabu.bot.UpdateDispatcher;
+import tg.vocabu.model.entity.dto.LanguageCount;
+import tg.vocabu.model.entity.dto.UserStats;
+import tg.vocabu.model.entity.user.User;
+import tg.vocabu.model.enums.CallbackQuery;
 import tg.vocabu.repository.UserRepository;
+import tg.vocabu.service.DictionaryReloader;
+import tg.vocabu.service.store.TempStateStore;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminCommandHandler {
 
+  private static final long RELOAD_TIMEOUT_SECONDS = 60;
+  private static final int USERS_PAGE_SIZE = 10;
+  private static final Pattern USER_ID_PATTERN = Pattern.compile("\\d{1,18}");
+
   private final UserRepository userRepository;
+  private final UpdateDispatcher updateDispatcher;
+  private final OutboundMessageQueue outboundMessageQueue;
+  private final DictionaryReloader dictionaryReloader;
+  private final TempStateStore tempStateStore;
 
   public void handleUsersStatus(SendMessage message) {
 
     log.trace("Received users status command from admin");
 
-    long usersCount = userRepository.count();
-    message.setText("Users count: " + usersCount);
+    UserStats stats = userRepository.getStats();
+
+    StringBuilder status = new StringBuilder("👥 Users\n\n");
+    status.append("Users count: ").append(stats.total()).append("\n");
+    status.append("Banned: ").append(stats.banned()).append("\n");
+    status.append("Bots: ").append(stats.bots()).append("\n\n");
+    status.append("By region:\n");
+
+    for (LanguageCount language : userRepository.countByLanguageCode()) {
+      status.append(language.languageCode() != null ? language.languageCode() : "unknown").append(": ").append(language.count()).append("\n");
+    }
+
+    message.setText(status.toString());
   }
 
-  public void handleUserList(SendMessage message) {
+  public void handleUserList(SendMessage message, long chatId, String text) {
 
     log.trace("Received user list command from admin");
 
-    StringBuilder userList = new StringBuilder("User List:\n\n");
-
-    userRepository
-        .findAll()
-        .forEach(
-            user ->
-                userList
-                    .append("ID: ")
-                    .append(user.getChatId())
-                    .append("\nUsername: @")
-                    .append(user.getUserName())
-                    .append("\nRegion: ")
-                    .append(user.getLanguageCode())
-                    .append("\nBot: ")
-                    .append(user.isBot())
-                    .append("\n--------------------\n"));
-
-    message.setText(userList.toString());
+    String[] parts = text.trim().split("\\s+", 2);
+    String query = parts.length > 1 ? parts[1].trim() : "";
+
+    if (query.isEmpty()) {
+      tempStateStore.removeUserSearch(chatId);
+      handleUsersPage(message, chatId, 0L, true);
+      return;
+    }
+
+    if (USER_ID_PATTERN.matcher(query).matches()) {
+
+      tempStateStore.removeUserSearch(chatId);
+
+      User user = userRepository.findById(Long.parseLong(query)).orElse(null);
+      message.setText(user != null ? generateUserListTable("User List (id " + query + "):\n\n", List.of(user)) : "No user with id " + query);
+
+      return;
+    }
+
+    tempStateStore.putUserSearch(chatId, query);
+    handleUsersPage(message, chatId, 0L, true);
+  }
+
+  public void handleUsersPage(SendMessage message, long chatId, long cursor, boolean forward) {
+
+    String search = tempStateStore.findUserSearch(chatId).orElse(null);
+
+    log.trace("Rendering users page for admin, search: {}, cursor: {}, forward: {}", search, cursor, forward);
+
+    PageRequest limit = PageRequest.of(0, USERS_PAGE_SIZE + 1);
+    List<User> users = new ArrayList<>(findUsersPage(search, cursor, forward, limit));
+
+    boolean hasMore = users.size() > USERS_PAGE_SIZE;
+
+    if (hasMore) {
+      users.remove(users.size() - 1);
+    }
+
+    if (!forward) {
+      Collections.reverse(users);
+    }
+
+    String header = search != null ? "User List (search: " + search + "):\n\n" : "User List:\n\n";
+
+    if (users.isEmpty()) {
+      message.setText(header + "No users found");
+      return;
+    }
+
+    message.setText(generateUserListTable(header, users));
+
+    boolean hasPrevious = forward ? cursor > 0 : hasMore;
+    boolean hasNext = !forward || hasMore;
+
+    List<InlineKeyboardButton> navigation = new ArrayList<>();
+
+    if (hasPrevious) {
+      String previousData = CallbackQuery.USERS_PREVIOUS_PAGE + ":" + users.get(0).getId();
+      navigation.add(InlineKeyboardButton.builder().text("⬅ Prev").callbackData(previousData).build());
+    }
+
+    if (hasNext) {
+      String nextData = CallbackQuery.USERS_NEXT_PAGE + ":" + users.get(users.size() - 1).getId();
+      navigation.add(InlineKeyboardButton.builder().text("Next ➡").callbackData(nextData).build());
+    }
+
+    if (!navigation.isEmpty()) {
+      InlineKeyboardMarkup markup = new InlineKeyboardMarkup();
+      markup.setKeyboard(List.of(navigation));
+
+      message.setReplyMarkup(markup);
+    }
+  }
+
+  private List<User> findUsersPage(String search, long cursor, boolean forward, PageRequest limit) {
+
+    if (search == null) {
+      return forward ? userRepository.findPageAfter(cursor, limit) : userRepository.findPageBefore(cursor, limit);
+    }
+
+    String pattern = "%" + search.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+
+    return forward ? userRepository.searchPageAfter(pattern, cursor, limit) : userRepository.searchPageBefore(pattern, cursor, limit);
+  }
+
+  private static String generateUserListTable(String header, List<User> users) {
+
+    StringBuilder userList = new StringBuilder(header);
+
+    for (User user : users) {
+      userList
+          .append("ID: ")
+          .append(user.getChatId())
+          .append("\nUsername: @")
+          .append(user.getUserName())
+          .append("\nRegion: ")
+          .append(user.getLanguageCode())
+          .append("\nBot: ")
+          .append(user.isBot())
+          .append("\nBanned: ")
+          .append(user.isBanned())
+          .append("\n--------------------\n");
+    }
+
+    return userList.toString();
+  }
+
+  public void handleQueueStatus(SendMessage message) {
+
+    log.trace("Received queue status command from admin");
+
+    StringBuilder status = new StringBuilder("📬 Update Queue\n\n");
+    status.append("Queued updates: ").append(updateDispatcher.getQueueDepth()).append("\n");
+    status
+        .append("Queued replies: ")
+        .append(outboundMessageQueue.getQueueDepth())
+        .append(" across ")
+        .append(outboundMessageQueue.getActiveChats())
+        .append(" chats\n\n");
+
+    for (StripedExecutor.StripeStats stripe : updateDispatcher.getStripeStats()) {
+      status
+          .append("#")
+          .append(stripe.stripe())
+          .append(": queued ")
+          .append(stripe.queueDepth())
+          .append(", oldest ")
+          .append(stripe.oldestWaitMillis())
+          .append("ms, last wait ")
+          .append(stripe.lastWaitMillis())
+          .append("ms, done ")
+          .append(stripe.completedTasks())
+          .append("\n");
+    }
+
+    message.setText(status.toString());
+  }
+
+  public void handleReloadDictionary(SendMessage message) {
+
+    log.trace("Received reload dictionary command from admin");
+
+    try {
+      DictionaryReloader.ReloadReport report = dictionaryReloader.reload("admin").get(RELOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+      if (!report.changed()) {
+        message.setText("📚 Dictionary Reload\n\nSource file unchanged, nothing to do (" + report.elapsedMillis() + "ms).");
+        return;
+      }
+
+      message.setText(
+          "📚 Dictionary Reload\n\n"
+              + "Time: "
+              + report.elapsedMillis()
+              + "ms\n"
+              + "Words: "
+              + report.wordsBefore()
+              + " ➜ "
+              + report.wordsAfter()
+              + "\n"
+              + "Inserted: "
+              + report.inserted()
+              + "\n"
+              + "Updated: "
+              + report.updated()
+              + "\n"
+              + "Deleted: "
+              + report.deleted());
+
+    } catch (TimeoutException e) {
+      message.setText("📚 Dictionary reload is still running in the background.");
+
+    } catch (ExecutionException e) {
+      message.setText("❌ Dictionary reload failed: " + e.getCause().getMessage());
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      message.setText("❌ Dictionary reload was interrupted.");
+    }
   }
 }
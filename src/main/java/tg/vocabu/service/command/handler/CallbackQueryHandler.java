@@ -1,8 +1,8 @@
 package tg.vocabu.service.command.handler;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,19 +11,21 @@ import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMa
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
 import tg.vocabu.bot.TelegramBot;
 import tg.vocabu.model.entity.dictionary.DictionaryWord;
-import tg.vocabu.model.entity.temp.CallbackQueryTemp;
 import tg.vocabu.model.entity.temp.Exercise;
 import tg.vocabu.model.entity.temp.WordTemp;
+import tg.vocabu.model.entity.user.User;
 import tg.vocabu.model.entity.user.Word;
 import tg.vocabu.model.enums.CallbackQuery;
 import tg.vocabu.model.enums.TranslationMethod;
-import tg.vocabu.repository.CallbackQueryRepository;
 import tg.vocabu.repository.DictionaryRepository;
-import tg.vocabu.repository.ExerciseRepository;
-import tg.vocabu.repository.UserRepository;
 import tg.vocabu.repository.WordRepository;
-import tg.vocabu.repository.WordTempRepository;
+import tg.vocabu.service.DictionaryIndex;
 import tg.vocabu.service.ReplyKeyboardService;
+import tg.vocabu.service.UserRegistry;
+import tg.vocabu.service.VocabularyIndex;
+import tg.vocabu.service.store.ExerciseSession;
+import tg.vocabu.service.store.ExerciseSessionStore;
+import tg.vocabu.service.store.TempStateStore;
 import tg.vocabu.util.LanguageUtil;
 
 @Slf4j
@@ -34,42 +36,43 @@ public class CallbackQueryHandler {
   private final ReplyKeyboardService replyKeyboardService;
   private final CommandHandler commandHandler;
 
-  private final WordTempRepository wordTempRepository;
-  private final CallbackQueryRepository callbackQueryRepository;
-  private final ExerciseRepository exerciseRepository;
-  private final UserRepository userRepository;
   private final WordRepository wordRepository;
+  private final VocabularyIndex vocabularyIndex;
   private final DictionaryRepository dictionaryRepository;
 
+  private final DictionaryIndex dictionaryIndex;
+  private final ExerciseSessionStore exerciseSessionStore;
+  private final TempStateStore tempStateStore;
+  private final UserRegistry userRegistry;
+
   public void handleSkipExercise(SendMessage message, long chatId) {
 
     log.trace("Handling Skip Exercise callback query");
 
-    Exercise exercise = exerciseRepository.findById(chatId).orElse(null);
+    ExerciseSession session = exerciseSessionStore.find(chatId).orElse(null);
 
-    if (exercise == null) {
+    if (session == null) {
       commandHandler.handleSomethingWentWrong(message);
       return;
     }
 
-    Optional<Word> wordOptional = wordRepository.findById(exercise.getWordId());
+    Exercise exercise = session.exercise();
+    Word word = resolveExerciseWord(session);
 
-    if (wordOptional.isPresent()) {
+    if (word != null) {
 
-      Word word = wordOptional.get();
       word.decrementScore(5);
+      word.scheduleReview(false, Instant.now());
 
-      wordRepository.save(word);
+      saveExerciseProgress(word, chatId, exercise, 0);
     } else {
-
-      Word word = Word.builder().chatId(chatId).english(exercise.getEnglish()).ukrainian(exercise.getUkrainian()).learned(false).build();
-      wordRepository.save(word);
+      restoreExerciseWord(chatId, exercise, 0);
     }
 
     message.setText(
         "⏭ Skipped\nThe correct answer is:\n\n" + LanguageUtil.formatTranslationPair(exercise.getEnglish(), exercise.getUkrainian()) + "     - 5%");
 
-    exerciseRepository.delete(exercise);
+    exerciseSessionStore.remove(chatId);
 
     InlineKeyboardMarkup markup = new InlineKeyboardMarkup();
     markup.setKeyboard(
@@ -84,29 +87,28 @@ public class CallbackQueryHandler {
 
     log.trace("Handling Exercise Answer callback query");
 
-    Exercise exercise = exerciseRepository.findById(chatId).orElse(null);
+    ExerciseSession session = exerciseSessionStore.find(chatId).orElse(null);
 
-    if (exercise == null) {
+    if (session == null) {
       commandHandler.handleSomethingWentWrong(message);
       return;
     }
 
-    Optional<Word> wordOptional = wordRepository.findById(exercise.getWordId());
+    Exercise exercise = session.exercise();
+    Word word = resolveExerciseWord(session);
 
     if (CallbackQuery.CORRECT_EXERCISE_ANSWER.toString().equals(selectedOption)) {
 
       boolean isLearned = false;
 
-      if (wordOptional.isPresent()) {
+      if (word != null) {
 
-        Word word = wordOptional.get();
         isLearned = word.incrementScore(10);
+        word.scheduleReview(true, Instant.now());
 
-        wordRepository.save(word);
+        saveExerciseProgress(word, chatId, exercise, 5);
       } else {
-
-        Word word = Word.builder().chatId(chatId).english(exercise.getEnglish()).ukrainian(exercise.getUkrainian()).score(5).learned(false).build();
-        wordRepository.save(word);
+        restoreExerciseWord(chatId, exercise, 5);
       }
 
       message.setText(
@@ -116,16 +118,14 @@ public class CallbackQueryHandler {
               + (isLearned ? "\n\nMarked as /learned! 🎉" : ""));
     } else if (CallbackQuery.WRONG_EXERCISE_ANSWER.toString().equals(selectedOption)) {
 
-      if (wordOptional.isPresent()) {
+      if (word != null) {
 
-        Word word = wordOptional.get();
         word.decrementScore(10);
+        word.scheduleReview(false, Instant.now());
 
-        wordRepository.save(word);
+        saveExerciseProgress(word, chatId, exercise, 0);
       } else {
-
-        Word word = Word.builder().chatId(chatId).english(exercise.getEnglish()).ukrainian(exercise.getUkrainian()).learned(false).build();
-        wordRepository.save(word);
+        restoreExerciseWord(chatId, exercise, 0);
       }
 
       message.setText(
@@ -137,7 +137,7 @@ public class CallbackQueryHandler {
       return;
     }
 
-    exerciseRepository.delete(exercise);
+    exerciseSessionStore.remove(chatId);
 
     InlineKeyboardMarkup markup = new InlineKeyboardMarkup();
     markup.setKeyboard(
@@ -148,20 +148,36 @@ public class CallbackQueryHandler {
     replyKeyboardService.getDefaultKeyboard(message);
   }
 
+  private Word resolveExerciseWord(ExerciseSession session) {
+    return session.word() != null ? session.word() : wordRepository.findById(session.exercise().getWordId()).orElse(null);
+  }
+
+  private void saveExerciseProgress(Word word, long chatId, Exercise exercise, int fallbackScore) {
+
+    int updated = wordRepository.updateProgress(word.getId(), word.getScore(), word.isLearned(), word.getReviewBox(), word.getDueAt());
+
+    if (updated == 0) {
+      restoreExerciseWord(chatId, exercise, fallbackScore);
+    }
+  }
+
+  private void restoreExerciseWord(long chatId, Exercise exercise, int score) {
+
+    Word word = Word.builder().chatId(chatId).english(exercise.getEnglish()).ukrainian(exercise.getUkrainian()).score(score).learned(false).build();
+    vocabularyIndex.add(word);
+  }
+
   public void handleAddToVocabulary(TelegramBot bot, SendMessage message, long chatId, Long wordTempId) {
 
     log.trace("Handling Add to Vocabulary callback query");
 
-    WordTemp wordTemp = wordTempRepository.findById(wordTempId).orElse(null);
+    WordTemp wordTemp = tempStateStore.takeDraft(wordTempId, chatId).orElse(null);
 
     if (wordTemp != null) {
 
-      wordTempRepository.delete(wordTemp);
-
-      if (!wordRepository.existsByEnglishOrUkrainian(wordTemp.getEnglish(), wordTemp.getUkrainian())) {
+      Word word = Word.builder().chatId(chatId).english(wordTemp.getEnglish()).ukrainian(wordTemp.getUkrainian()).score(0).build();
 
-        Word word = Word.builder().chatId(chatId).english(wordTemp.getEnglish()).ukrainian(wordTemp.getUkrainian()).score(0).build();
-        wordRepository.save(word);
+      if (vocabularyIndex.add(word)) {
 
         if (wordTemp.getTranslationMethod() == TranslationMethod.GOOGLE_TRANSLATOR) {
           commandHandler.handleWordSuggestion(bot, word, chatId);
@@ -180,20 +196,20 @@ public class CallbackQueryHandler {
 
     log.trace("Handling Add Own Translation callback query");
 
-    callbackQueryRepository.deleteById(chatId);
-    WordTemp wordTemp = wordTempRepository.findById(wordTempId).orElse(null);
+    tempStateStore.removePendingCommand(chatId);
+    WordTemp wordTemp = tempStateStore.findDraft(wordTempId, chatId).orElse(null);
 
     if (wordTemp == null) {
       commandHandler.handleSomethingWentWrong(message);
       return;
     }
 
-    if (wordRepository.existsByEnglish(wordTemp.getEnglish())) {
+    if (vocabularyIndex.contains(chatId, wordTemp.getEnglish())) {
       message.setText("This word pair already exists in your vocabulary.");
       return;
     }
 
-    callbackQueryRepository.save(new CallbackQueryTemp(chatId, CallbackQuery.ADD_OWN_TRANSLATION + ":" + wordTempId));
+    tempStateStore.putPendingCommand(chatId, CallbackQuery.ADD_OWN_TRANSLATION + ":" + wordTempId);
 
     message.setText("Send your own translation:");
   }
@@ -212,6 +228,8 @@ public class CallbackQueryHandler {
     DictionaryWord dictionaryWord = DictionaryWord.builder().english(word.getEnglish()).ukrainian(word.getUkrainian()).build();
 
     dictionaryRepository.save(dictionaryWord);
+    dictionaryIndex.add(dictionaryWord);
+
     log.info("Added new word to dictionary: {}", dictionaryWord.getEnglish());
 
     message.setText("The word has been added to the dictionary:\n\n" + LanguageUtil.formatTranslationPair(word.getEnglish(), word.getUkrainian()));
@@ -223,12 +241,15 @@ public class CallbackQueryHandler {
 
     log.trace("Handling Ban User callback query for user ID: {}", userId);
 
-    if (!userRepository.existsById(userId)) {
+    User user = userRegistry.findUser(userId).orElse(null);
+
+    if (user == null) {
       message.setText("User with ID: " + userId + ", does not exist.");
       log.warn("Attempted to ban non-existent user with ID: {}", userId);
+      return;
     }
 
-    userRepository.banUserById(userId);
+    userRegistry.ban(userId);
     log.info("Banned user with ID: {}", userId);
 
     InlineKeyboardButton unbanUser = new InlineKeyboardButton("Unban");
@@ -242,21 +263,24 @@ public class CallbackQueryHandler {
     markup.setKeyboard(rows);
 
     message.setReplyMarkup(markup);
-    message.setText("User:\n@" + userRepository.findUserNameById(userId) + "\nID: " + userId + "\n\nhas been banned");
+    message.setText("User:\n@" + user.getUserName() + "\nID: " + userId + "\n\nhas been banned");
   }
 
   public void handleUnbanUser(SendMessage message, Long userId) {
 
     log.trace("Handling Unban User callback query for user ID: {}", userId);
 
-    if (!userRepository.existsById(userId)) {
+    User user = userRegistry.findUser(userId).orElse(null);
+
+    if (user == null) {
       message.setText("User with ID: " + userId + ", does not exist.");
       log.warn("Attempted to unban non-existent user with ID: {}", userId);
+      return;
     }
 
-    userRepository.unbanUserById(userId);
+    userRegistry.unban(userId);
     log.info("Unbanned user with ID: {}", userId);
 
-    message.setText("User:\n@" + userRepository.findUserNameById(userId) + "\nID: " + userId + "\n\nhas been unbanned");
+    message.setText("User:\n@" + user.getUserName() + "\nID: " + userId + "\n\nhas been unbanned");
   }
 }
@@ -1,33 +1,42 @@
 package tg.vocabu.service.command.handler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+import tg.vocabu.bot.OutboundMessageQueue;
 import tg.vocabu.bot.TelegramBot;
 import tg.vocabu.config.BotConfig;
 import tg.vocabu.config.FilePathConfig;
+import tg.vocabu.config.GoogleClientConfig;
 import tg.vocabu.exception.TranslationException;
 import tg.vocabu.model.entity.dto.CallbackQueryDto;
-import tg.vocabu.model.entity.temp.CallbackQueryTemp;
 import tg.vocabu.model.entity.temp.WordTemp;
 import tg.vocabu.model.entity.user.User;
 import tg.vocabu.model.entity.user.Word;
 import tg.vocabu.model.enums.CallbackQuery;
 import tg.vocabu.model.enums.LanguageCode;
 import tg.vocabu.model.enums.TranslationMethod;
-import tg.vocabu.repository.CallbackQueryRepository;
-import tg.vocabu.repository.UserRepository;
 import tg.vocabu.repository.WordRepository;
-import tg.vocabu.repository.WordTempRepository;
+import tg.vocabu.service.BotMetrics;
 import tg.vocabu.service.GoogleTranslationService;
 import tg.vocabu.service.ReplyKeyboardService;
 import tg.vocabu.service.TranslationService;
+import tg.vocabu.service.UserRegistry;
+import tg.vocabu.service.VocabularyIndex;
+import tg.vocabu.service.store.TempStateStore;
 import tg.vocabu.util.FileReader;
 import tg.vocabu.util.LanguageUtil;
 import tg.vocabu.util.StringUtil;
@@ -37,26 +46,32 @@ import tg.vocabu.util.StringUtil;
 @RequiredArgsConstructor
 public class CommandHandler {
 
+  private static final int WORDS_PAGE_SIZE = 20;
+
   private final BotConfig botConfig;
+  private final GoogleClientConfig googleClientConfig;
 
   private final TranslationService translationService;
   private final GoogleTranslationService googleTranslatorService;
   private final ReplyKeyboardService replyKeyboardService;
+  private final BotMetrics botMetrics;
+  private final OutboundMessageQueue outboundMessageQueue;
 
-  private final UserRepository userRepository;
   private final WordRepository wordRepository;
-  private final WordTempRepository wordTempRepository;
-  private final CallbackQueryRepository callbackQueryRepository;
+  private final VocabularyIndex vocabularyIndex;
+
+  private final TempStateStore tempStateStore;
+  private final UserRegistry userRegistry;
 
   public void handleWordSuggestion(TelegramBot bot, Word word, Long chatId) {
 
-    if (userRepository.isBanned(chatId)) {
+    if (userRegistry.isBanned(chatId)) {
       return;
     }
 
     log.trace("Received word suggestion command from chat: {}", chatId);
 
-    User user = userRepository.findById(chatId).orElse(null);
+    User user = userRegistry.findUser(chatId).orElse(null);
 
     if (user == null) {
       log.error("User not found for chat ID: {}", chatId);
@@ -91,18 +106,14 @@ public class CommandHandler {
 
     replyKeyboardService.getDefaultKeyboard(message);
 
-    try {
-      bot.execute(message);
-    } catch (Exception e) {
-      log.error("Failed to send word suggestion to admin: {}", e.getMessage());
-    }
+    outboundMessageQueue.send(bot, botConfig.getAdminChatId(), message);
   }
 
   public void handleClearVocabulary(SendMessage message, Long chatId) {
 
     log.trace("Received clear vocabulary command from chat: {}", chatId);
 
-    wordRepository.deleteByChatId(chatId);
+    vocabularyIndex.clear(chatId);
     message.setText("🗑️ Vocabulary Cleared\n\nYour vocabulary has been cleared successfully.");
 
     replyKeyboardService.getDefaultKeyboard(message);
@@ -112,7 +123,14 @@ public class CommandHandler {
 
     log.trace("Received dictionary info command from chat: {}", chatId);
 
-    message.setText("🔧 Dictionary Info\n\nWords count: " + translationService.getWordsCount());
+    message.setText(
+        "🔧 Dictionary Info\n\n"
+            + "Words count: "
+            + translationService.getWordsCount()
+            + "\n"
+            + "Index memory: ~"
+            + translationService.getIndexMemoryBytes() / 1024
+            + " KB");
 
     replyKeyboardService.getDefaultKeyboard(message);
   }
@@ -127,31 +145,68 @@ public class CommandHandler {
 
     log.trace("Received vocabulary command from chat: {}", chatId);
 
-    List<Word> words = wordRepository.findByChatIdAndLearned(chatId, false);
-    String vocabularyHeader = "==🇬🇧== Vocabulary ==🇺🇦== - % -\n\n";
-
-    if (words != null && !words.isEmpty()) {
-      message.setText(generateWordsListTable(vocabularyHeader, words, true));
-    } else {
-      message.setText(vocabularyHeader + "\nNothing yet...");
-    }
+    handleWordsPage(message, chatId, false, 0L, true);
   }
 
   public void handleLearned(SendMessage message, Long chatId) {
 
     log.trace("Received learned command from chat: {}", chatId);
 
-    List<Word> words = wordRepository.findByChatIdAndLearned(chatId, true);
-    String vocabularyHeader = "==🇬🇧== Learned Words ==🇬🇧==\n\n";
+    handleWordsPage(message, chatId, true, 0L, true);
+  }
+
+  public void handleWordsPage(SendMessage message, Long chatId, boolean learned, long cursor, boolean forward) {
+
+    log.trace("Rendering {} page for chat: {}, cursor: {}, forward: {}", learned ? "learned" : "vocabulary", chatId, cursor, forward);
+
+    PageRequest limit = PageRequest.of(0, WORDS_PAGE_SIZE + 1);
+    List<Word> words =
+        new ArrayList<>(
+            forward ? wordRepository.findPageAfter(chatId, learned, cursor, limit) : wordRepository.findPageBefore(chatId, learned, cursor, limit));
+
+    boolean hasMore = words.size() > WORDS_PAGE_SIZE;
+
+    if (hasMore) {
+      words.remove(words.size() - 1);
+    }
+
+    if (!forward) {
+      Collections.reverse(words);
+    }
+
+    String header = learned ? "==🇬🇧== Learned Words ==🇬🇧==\n\n" : "==🇬🇧== Vocabulary ==🇺🇦== - % -\n\n";
+
+    if (words.isEmpty()) {
+      message.setText(header + "\nNothing yet...");
+      return;
+    }
+
+    message.setText(generateWordsListTable(header, words, !learned));
+
+    boolean hasPrevious = forward ? cursor > 0 : hasMore;
+    boolean hasNext = !forward || hasMore;
+
+    List<InlineKeyboardButton> navigation = new ArrayList<>();
+
+    if (hasPrevious) {
+      CallbackQuery previous = learned ? CallbackQuery.LEARNED_PREVIOUS_PAGE : CallbackQuery.VOCABULARY_PREVIOUS_PAGE;
+      navigation.add(InlineKeyboardButton.builder().text("⬅ Prev").callbackData(previous + ":" + words.get(0).getId()).build());
+    }
+
+    if (hasNext) {
+      CallbackQuery next = learned ? CallbackQuery.LEARNED_NEXT_PAGE : CallbackQuery.VOCABULARY_NEXT_PAGE;
+      navigation.add(InlineKeyboardButton.builder().text("Next ➡").callbackData(next + ":" + words.get(words.size() - 1).getId()).build());
+    }
+
+    if (!navigation.isEmpty()) {
+      InlineKeyboardMarkup markup = new InlineKeyboardMarkup();
+      markup.setKeyboard(List.of(navigation));
 
-    if (words != null && !words.isEmpty()) {
-      message.setText(generateWordsListTable(vocabularyHeader, words, false));
-    } else {
-      message.setText(vocabularyHeader + "\nNothing yet...");
+      message.setReplyMarkup(markup);
     }
   }
 
-  private String generateWordsListTable(String header, List<Word> words, boolean includeScore) {
+  static String generateWordsListTable(String header, List<Word> words, boolean includeScore) {
 
     StringBuilder table = new StringBuilder();
     table.append(header);
@@ -174,10 +229,11 @@ public class CommandHandler {
 
     log.trace("Received start command from chat: {}", chatId);
 
-    if (!userRepository.existsByChatId(chatId)) {
-      org.telegram.telegrambots.meta.api.objects.User tgUser = update.getMessage().getFrom();
+    org.telegram.telegrambots.meta.api.objects.User tgUser = update.getMessage().getFrom();
 
-      userRepository.save(
+    if (userRegistry.findUser(tgUser.getId()).isEmpty()) {
+
+      userRegistry.register(
           User.builder()
               .id(tgUser.getId())
               .chatId(chatId)
@@ -210,12 +266,11 @@ public class CommandHandler {
   public boolean havePendingCommand(TelegramBot bot, SendMessage message, Long chatId, String text) {
 
     log.trace("Checking for pending command for chat: {}", chatId);
-    CallbackQueryTemp callbackQueryTemp = callbackQueryRepository.findById(chatId).orElse(null);
+    String pendingCommand = tempStateStore.takePendingCommand(chatId).orElse(null);
 
-    if (callbackQueryTemp != null) {
+    if (pendingCommand != null) {
 
-      callbackQueryRepository.delete(callbackQueryTemp);
-      CallbackQueryDto callbackQueryDto = CallbackQueryDto.extract(callbackQueryTemp.getCallbackQuery());
+      CallbackQueryDto callbackQueryDto = CallbackQueryDto.extract(pendingCommand);
 
       switch (callbackQueryDto.getCallbackQuery()) {
         case ADD_OWN_TRANSLATION -> {
@@ -230,16 +285,13 @@ public class CommandHandler {
 
   private boolean handleAddWithOwnTranslation(TelegramBot bot, SendMessage message, Long chatId, Long wordTempId, String text) {
 
-    WordTemp wordTemp = wordTempRepository.findById(wordTempId).orElse(null);
+    WordTemp wordTemp = tempStateStore.takeDraft(wordTempId, chatId).orElse(null);
 
     if (wordTemp != null) {
 
-      wordTempRepository.delete(wordTemp);
-
-      if (!wordRepository.existsByEnglishOrUkrainian(wordTemp.getEnglish(), text)) {
+      Word word = Word.builder().chatId(chatId).english(wordTemp.getEnglish()).ukrainian(text).score(0).build();
 
-        Word word = Word.builder().chatId(chatId).english(wordTemp.getEnglish()).ukrainian(text).score(0).build();
-        wordRepository.save(word);
+      if (vocabularyIndex.add(word)) {
 
         if (wordTemp.getTranslationMethod() == TranslationMethod.GOOGLE_TRANSLATOR) {
           handleWordSuggestion(bot, word, chatId);
@@ -260,6 +312,39 @@ public class CommandHandler {
   }
 
   public void handleTranslateCommand(SendMessage message, Long chatId, String text) {
+    translateText(message, chatId, text, true);
+  }
+
+  public void handleDidYouMean(SendMessage message, Long chatId, Long wordTempId) {
+
+    log.trace("Received did you mean selection from chat: {}", chatId);
+
+    WordTemp wordTemp = tempStateStore.findDraft(wordTempId, chatId).orElse(null);
+
+    if (wordTemp == null || wordTemp.getUkrainian() == null) {
+      handleSomethingWentWrong(message);
+      return;
+    }
+
+    botMetrics.countTranslation(TranslationMethod.DICTIONARY);
+    renderTranslation(message, wordTemp, wordTemp.getSourceLanguage());
+  }
+
+  public void handleTranslateAsTyped(SendMessage message, Long chatId, Long wordTempId) {
+
+    log.trace("Received translate as typed selection from chat: {}", chatId);
+
+    WordTemp wordTemp = tempStateStore.takeDraft(wordTempId, chatId).orElse(null);
+
+    if (wordTemp == null) {
+      handleSomethingWentWrong(message);
+      return;
+    }
+
+    translateText(message, chatId, wordTemp.getEnglish(), false);
+  }
+
+  private void translateText(SendMessage message, Long chatId, String text, boolean suggestCorrection) {
 
     if (text.startsWith("/")) {
       message.setText("❌ Unknown command. Type /help for assistance.");
@@ -300,25 +385,92 @@ public class CommandHandler {
         return;
       }
 
-      TranslationResult translationResultEng = translate(text, detected, LanguageCode.EN);
-      TranslationResult translationResultUkr = translate(text, detected, LanguageCode.UK);
+      if (suggestCorrection && offerCorrection(message, chatId, text, detected)) {
+        return;
+      }
+
+      CompletableFuture<TranslationResult> engFuture = translateAsync(text, detected, LanguageCode.EN);
+      CompletableFuture<TranslationResult> ukrFuture = translateAsync(text, detected, LanguageCode.UK);
+
+      CompletableFuture.allOf(engFuture, ukrFuture).get(googleClientConfig.getTranslationDeadline().toMillis(), TimeUnit.MILLISECONDS);
+
+      TranslationResult translationResultEng = engFuture.join();
+      TranslationResult translationResultUkr = ukrFuture.join();
 
       eng = translationResultEng.text;
       ukr = translationResultUkr.text;
 
       translationMethod = translationResultEng.method() != null ? translationResultEng.method() : translationResultUkr.method();
-      wordTemp = WordTemp.builder().chatId(chatId).english(eng).ukrainian(ukr).translationMethod(translationMethod).build();
+      wordTemp = tempStateStore.createDraft(chatId, eng, ukr, translationMethod, detected);
 
-      wordTempRepository.save(wordTemp);
+    } catch (ExecutionException | TimeoutException e) {
+      TranslationException translationException = TranslationException.unwrap(e);
+
+      log.error("Translation failed: {}", translationException.getMessage());
+      message.setText("❌ Translation Failed\n\n" + "Error: " + translationException.getMessage());
+      return;
 
-    } catch (TranslationException e) {
-      log.error("Translation failed: {}", e.getMessage());
-      message.setText("❌ Translation Failed\n\n" + "Error: " + e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      handleSomethingWentWrong(message);
       return;
     }
 
     log.trace("Translation successful");
 
+    renderTranslation(message, wordTemp, detected);
+  }
+
+  private boolean offerCorrection(SendMessage message, Long chatId, String text, LanguageCode detected) {
+
+    if (translationService.findTranslation(text).isPresent()) {
+      return false;
+    }
+
+    String correction = translationService.suggestCorrection(text).orElse(null);
+    String translation = correction != null ? translationService.findTranslation(correction).orElse(null) : null;
+
+    if (translation == null) {
+      return false;
+    }
+
+    log.debug("Offering correction for '{}': {}", text, correction);
+
+    String word = StringUtil.normalizeText(correction);
+    String translated = StringUtil.normalizeText(translation);
+
+    LanguageCode correctionLanguage = translationService.detectLanguage(correction);
+
+    WordTemp suggestion =
+        correctionLanguage == LanguageCode.EN
+            ? tempStateStore.createDraft(chatId, word, translated, TranslationMethod.DICTIONARY, correctionLanguage)
+            : tempStateStore.createDraft(chatId, translated, word, TranslationMethod.DICTIONARY, correctionLanguage);
+
+    WordTemp original = tempStateStore.createDraft(chatId, text, null, TranslationMethod.GOOGLE_TRANSLATOR, detected);
+
+    InlineKeyboardButton acceptCorrection =
+        InlineKeyboardButton.builder().text(word).callbackData(CallbackQuery.DID_YOU_MEAN + ":" + suggestion.getId()).build();
+    InlineKeyboardButton translateAsTyped =
+        InlineKeyboardButton.builder()
+            .text("Translate \"" + text + "\"")
+            .callbackData(CallbackQuery.TRANSLATE_AS_TYPED + ":" + original.getId())
+            .build();
+
+    InlineKeyboardMarkup markup = new InlineKeyboardMarkup();
+    markup.setKeyboard(List.of(List.of(acceptCorrection), List.of(translateAsTyped)));
+
+    message.setText("🔎 Did you mean…?");
+    message.setReplyMarkup(markup);
+
+    return true;
+  }
+
+  private void renderTranslation(SendMessage message, WordTemp wordTemp, LanguageCode detected) {
+
+    String eng = wordTemp.getEnglish();
+    String ukr = wordTemp.getUkrainian();
+    TranslationMethod translationMethod = wordTemp.getTranslationMethod();
+
     InlineKeyboardButton addToVocabulary = new InlineKeyboardButton("Add to vocabulary");
     addToVocabulary.setCallbackData(CallbackQuery.ADD_TO_VOCABULARY + ":" + wordTemp.getId());
 
@@ -341,30 +493,31 @@ public class CommandHandler {
     message.setReplyMarkup(markup);
   }
 
-  private TranslationResult translate(String text, LanguageCode detected, LanguageCode target) throws TranslationException {
+  private CompletableFuture<TranslationResult> translateAsync(String text, LanguageCode detected, LanguageCode target) {
 
     if (detected == target) {
-      return new TranslationResult(text, null);
+      return CompletableFuture.completedFuture(new TranslationResult(text, null));
     }
 
-    String translated;
-    TranslationMethod translationMethod;
-
-    try {
-      translated = translationService.translate(text);
-      translationMethod = TranslationMethod.DICTIONARY;
-      log.debug("Word found in dictionary: '{}'", translated);
+    Optional<String> dictionaryTranslation = translationService.findTranslation(text);
 
-    } catch (TranslationException translationException) {
+    if (dictionaryTranslation.isPresent()) {
+      log.debug("Word found in dictionary: '{}'", dictionaryTranslation.get());
+      botMetrics.countTranslation(TranslationMethod.DICTIONARY);
 
-      log.debug("Not found word in dictionary, trying to translate via API: {}", translationException.getMessage());
-      translated = googleTranslatorService.translate(text, detected.getCode(), target.getCode());
-      translationMethod = TranslationMethod.GOOGLE_TRANSLATOR;
+      TranslationResult result = new TranslationResult(StringUtil.normalizeText(dictionaryTranslation.get()), TranslationMethod.DICTIONARY);
+      return CompletableFuture.completedFuture(result);
     }
 
-    translated = StringUtil.normalizeText(translated);
+    log.debug("Not found word in dictionary, trying to translate via API: {}", text);
 
-    return new TranslationResult(translated, translationMethod);
+    return googleTranslatorService
+        .translateAsync(text, detected.getCode(), target.getCode())
+        .thenApply(
+            translated -> {
+              botMetrics.countTranslation(TranslationMethod.GOOGLE_TRANSLATOR);
+              return new TranslationResult(StringUtil.normalizeText(translated), TranslationMethod.GOOGLE_TRANSLATOR);
+            });
   }
 
   public record TranslationResult(String text, TranslationMethod method) {}
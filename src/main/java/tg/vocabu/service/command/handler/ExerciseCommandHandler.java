@@ -1,11 +1,13 @@
 package tg.vocabu.service.command.handler;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
@@ -13,9 +15,10 @@ import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKe
 import tg.vocabu.model.entity.temp.Exercise;
 import tg.vocabu.model.entity.user.Word;
 import tg.vocabu.model.enums.CallbackQuery;
-import tg.vocabu.repository.ExerciseRepository;
 import tg.vocabu.repository.WordRepository;
 import tg.vocabu.service.TranslationService;
+import tg.vocabu.service.store.ExerciseSession;
+import tg.vocabu.service.store.ExerciseSessionStore;
 import tg.vocabu.util.ListUtil;
 import tg.vocabu.util.StringUtil;
 
@@ -24,10 +27,12 @@ import tg.vocabu.util.StringUtil;
 @RequiredArgsConstructor
 public class ExerciseCommandHandler {
 
+  private static final int OPTIONS_COUNT = 4;
+
   private final TranslationService translationService;
 
   private final WordRepository wordRepository;
-  private final ExerciseRepository exerciseRepository;
+  private final ExerciseSessionStore exerciseSessionStore;
 
   private final Random random = new Random();
 
@@ -35,13 +40,13 @@ public class ExerciseCommandHandler {
 
     log.trace("Received exercise command from chat: {}", chatId);
 
-    Optional<Exercise> exercise = exerciseRepository.findById(chatId);
+    Optional<ExerciseSession> session = exerciseSessionStore.find(chatId);
 
-    if (exercise.isPresent()) {
+    if (session.isPresent()) {
 
       log.trace("Found existing exercise for chat: {}", chatId);
 
-      displayExercise(message, exercise.get());
+      displayExercise(message, session.get().exercise());
       return;
     }
 
@@ -52,27 +57,40 @@ public class ExerciseCommandHandler {
 
     log.trace("Handling Word Translation Exercise for chat: {}", chatId);
 
-    List<Word> words = wordRepository.findByChatIdAndLearned(chatId, false);
+    List<Word> words = new ArrayList<>(wordRepository.findDueWords(chatId, PageRequest.of(0, OPTIONS_COUNT)));
 
-    if (words == null || words.isEmpty()) {
+    if (words.isEmpty()) {
       message.setText("Your vocabulary is empty. Please add some words first.");
       return;
     }
 
-    Word word = ListUtil.popRandomElementFromList(words);
+    Word word = words.remove(0);
+
+    log.trace("Selected word for exercise: {}, due at {}", word.getEnglish(), word.getDueAt());
 
-    log.trace("Selected word for exercise: {}", word);
+    String[] options = new String[OPTIONS_COUNT];
+    String[] statuses = new String[OPTIONS_COUNT];
+    int correctOptionIndex = random.nextInt(OPTIONS_COUNT);
 
-    String[] options = new String[4];
-    String[] statuses = new String[4];
-    int correctOptionIndex = random.nextInt(3);
+    int missingDistractors = Math.max(0, options.length - 1 - words.size());
+    Iterator<Word> dictionaryWords = translationService.getRandomWords(missingDistractors, word.getEnglish()).iterator();
 
     for (int i = 0; i < options.length; i++) {
 
       boolean isCorrectOptionIndex = i == correctOptionIndex;
 
-      Word optionWord = !words.isEmpty() ? ListUtil.popRandomElementFromList(words) : translationService.getRandomWord().toWord();
-      optionWord = isCorrectOptionIndex ? word : optionWord;
+      Word optionWord;
+
+      if (isCorrectOptionIndex) {
+        optionWord = word;
+      } else if (!words.isEmpty()) {
+        optionWord = ListUtil.popRandomElementFromList(words);
+      } else if (dictionaryWords.hasNext()) {
+        optionWord = dictionaryWords.next();
+      } else {
+        message.setText("Not enough words to build an exercise yet. Please add more words first.");
+        return;
+      }
 
       options[i] = isEngToUkr ? optionWord.getUkrainian() : optionWord.getEnglish();
       options[i] = StringUtil.normalizeText(options[i]);
@@ -81,7 +99,7 @@ public class ExerciseCommandHandler {
     }
 
     Exercise exercise = new Exercise(chatId, word.getId(), isEngToUkr, word.getEnglish(), word.getUkrainian(), options, statuses);
-    exerciseRepository.save(exercise);
+    exerciseSessionStore.save(new ExerciseSession(exercise, word));
 
     displayExercise(message, exercise);
   }
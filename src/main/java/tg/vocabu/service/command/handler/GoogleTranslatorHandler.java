@@ -31,15 +31,32 @@ public class GoogleTranslatorHandler {
     }
   }
 
-  public void handleClearCacheCommand(SendMessage message, Long chatId) {
+  public void handleClearCacheCommand(SendMessage message, Long chatId, String text) {
 
     log.trace("Received clear cache command from chat: {}", chatId);
 
+    String[] parts = text.trim().split("\\s+");
+    String tier = parts.length > 1 ? parts[1].toLowerCase() : "memory";
+
     try {
-      googleTranslationService.clearCache();
+      switch (tier) {
+        case "memory" -> googleTranslationService.clearCache();
+        case "persistent" -> googleTranslationService.clearPersistentCache();
+        case "all" -> {
+          googleTranslationService.clearCache();
+          googleTranslationService.clearPersistentCache();
+        }
+        default -> {
+          message.setText("❌ Unknown cache tier: " + tier + "\n\nUsage: /clear [memory|persistent|all]");
+          return;
+        }
+      }
+
       message.setText(
           "🗑️ Cache Cleared\n\n"
-              + "Translation cache has been cleared successfully.\n"
+              + "Translation cache ("
+              + tier
+              + ") has been cleared successfully.\n"
               + "Next translations will be fetched fresh from Google Translate.");
 
       replyKeyboardService.getDefaultKeyboard(message);
@@ -63,14 +80,50 @@ public class GoogleTranslatorHandler {
               + "\n"
               + "Cache Size: "
               + stats.get("cacheSize")
+              + " / "
+              + stats.get("maximumSize")
               + " translations\n"
+              + "Expire After Write: "
+              + stats.get("expireAfterWrite")
+              + "\n"
               + "Caching: "
               + (Boolean.TRUE.equals(stats.get("cachingEnabled")) ? "Enabled ✅" : "Disabled ❌")
               + "\n\n"
-              + "🚀 Cache Benefits:\n"
-              + "• Instant responses for repeated translations\n"
-              + "• Reduces API calls and rate limits\n"
-              + "• Improves overall performance");
+              + "📈 Cache Usage:\n"
+              + "Hits: "
+              + stats.get("hitCount")
+              + "\n"
+              + "Misses: "
+              + stats.get("missCount")
+              + "\n"
+              + String.format("Hit Rate: %.1f%%", (double) stats.get("hitRate") * 100)
+              + "\n"
+              + "Evictions: "
+              + stats.get("evictionCount")
+              + "\n\n"
+              + "💾 Persistent Cache:\n"
+              + "Stored: "
+              + stats.get("persistentSize")
+              + " translations\n"
+              + "Hits: "
+              + stats.get("persistentHitCount")
+              + "\n"
+              + "Pending Writes: "
+              + stats.get("pendingWrites")
+              + "\n\n"
+              + "Coalesced Requests: "
+              + stats.get("coalescedCount")
+              + " (API calls saved), "
+              + stats.get("inFlight")
+              + " in flight\n"
+              + "Google Calls: "
+              + stats.get("loadCount")
+              + " ok, "
+              + stats.get("loadFailureCount")
+              + " failed\n"
+              + "Average Call Time: "
+              + stats.get("averageLoadMillis")
+              + "ms");
 
       replyKeyboardService.getDefaultKeyboard(message);
     } catch (Exception e) {
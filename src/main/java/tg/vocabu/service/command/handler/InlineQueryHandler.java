@@ -0,0 +1,62 @@
+package tg.vocabu.service.command.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.InputTextMessageContent;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResult;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResultArticle;
+import tg.vocabu.model.enums.LanguageCode;
+import tg.vocabu.service.TranslationService;
+import tg.vocabu.util.LanguageUtil;
+import tg.vocabu.util.StringUtil;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InlineQueryHandler {
+
+  private static final int INLINE_RESULTS_LIMIT = 20;
+  private static final int INLINE_CACHE_SECONDS = 300;
+
+  private final TranslationService translationService;
+
+  public AnswerInlineQuery handleInlineQuery(InlineQuery inlineQuery) {
+
+    log.trace("Received inline query from user: {}", inlineQuery.getFrom().getId());
+
+    String query = inlineQuery.getQuery() != null ? inlineQuery.getQuery().trim() : "";
+    List<InlineQueryResult> results = new ArrayList<>();
+
+    for (String match : translationService.findByPrefix(query, INLINE_RESULTS_LIMIT)) {
+
+      String translation = translationService.findTranslation(match).orElse(null);
+
+      if (translation == null) {
+        continue;
+      }
+
+      boolean ukrainian = translationService.detectLanguage(match) == LanguageCode.UK;
+
+      String word = StringUtil.normalizeText(match);
+      String translated = StringUtil.normalizeText(translation);
+
+      String eng = ukrainian ? translated : word;
+      String ukr = ukrainian ? word : translated;
+
+      results.add(
+          InlineQueryResultArticle.builder()
+              .id(String.valueOf(results.size()))
+              .title(word)
+              .description(translated)
+              .inputMessageContent(InputTextMessageContent.builder().messageText(LanguageUtil.formatTranslationPair(eng, ukr)).build())
+              .build());
+    }
+
+    return AnswerInlineQuery.builder().inlineQueryId(inlineQuery.getId()).results(results).cacheTime(INLINE_CACHE_SECONDS).build();
+  }
+}
@@ -0,0 +1,107 @@
+package tg.vocabu.service.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenProbes;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private int probesInFlight;
+  private long openedAtNanos;
+
+  public CircuitBreaker(String name, int failureThreshold, Duration openDuration, int halfOpenProbes) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.halfOpenProbes = halfOpenProbes;
+  }
+
+  public synchronized boolean tryAcquire() {
+
+    if (state == State.OPEN) {
+
+      if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+        return false;
+      }
+
+      log.info("Circuit breaker '{}' is half-open, probing", name);
+
+      state = State.HALF_OPEN;
+      probesInFlight = 0;
+    }
+
+    if (state == State.HALF_OPEN) {
+
+      if (probesInFlight >= halfOpenProbes) {
+        return false;
+      }
+
+      probesInFlight++;
+    }
+
+    return true;
+  }
+
+  public synchronized void release() {
+
+    if (state == State.HALF_OPEN && probesInFlight > 0) {
+      probesInFlight--;
+    }
+  }
+
+  public synchronized void recordSuccess() {
+
+    consecutiveFailures = 0;
+
+    if (state == State.HALF_OPEN) {
+      log.info("Circuit breaker '{}' closed after successful probe", name);
+
+      state = State.CLOSED;
+      probesInFlight = 0;
+    }
+  }
+
+  public synchronized void recordFailure() {
+
+    consecutiveFailures++;
+
+    if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+      log.warn("Circuit breaker '{}' opened after {} consecutive failures", name, consecutiveFailures);
+
+      state = State.OPEN;
+      openedAtNanos = System.nanoTime();
+      probesInFlight = 0;
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public synchronized int getConsecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  public synchronized long getRemainingOpenMillis() {
+
+    if (state != State.OPEN) {
+      return 0;
+    }
+
+    return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openDurationNanos - (System.nanoTime() - openedAtNanos)));
+  }
+}
@@ -0,0 +1,42 @@
+package tg.vocabu.service.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class ExponentialBackoff {
+
+  private final long baseDelayNanos;
+  private final long maxDelayNanos;
+
+  private int attempts;
+  private long blockedUntilNanos;
+
+  public ExponentialBackoff(Duration baseDelay, Duration maxDelay) {
+    this.baseDelayNanos = baseDelay.toNanos();
+    this.maxDelayNanos = maxDelay.toNanos();
+  }
+
+  public synchronized Duration onFailure(Duration hint) {
+
+    attempts++;
+
+    long delayNanos = hint != null ? Math.max(hint.toNanos(), 0) : Math.min(baseDelayNanos << Math.min(attempts - 1, 30), maxDelayNanos);
+
+    blockedUntilNanos = System.nanoTime() + delayNanos;
+
+    return Duration.ofNanos(delayNanos);
+  }
+
+  public synchronized void reset() {
+    attempts = 0;
+    blockedUntilNanos = 0;
+  }
+
+  public synchronized boolean isActive() {
+    return attempts > 0 && System.nanoTime() < blockedUntilNanos;
+  }
+
+  public synchronized long getRemainingMillis() {
+    return isActive() ? TimeUnit.NANOSECONDS.toMillis(blockedUntilNanos - System.nanoTime()) : 0;
+  }
+}
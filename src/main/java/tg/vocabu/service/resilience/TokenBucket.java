@@ -0,0 +1,85 @@
+package tg.vocabu.service.resilience;
+
+public class TokenBucket {
+
+  private static final double RECOVERY_STEP = 0.05;
+
+  private final double maxRatePerSecond;
+  private final double minRatePerSecond;
+  private final double capacity;
+
+  private double ratePerSecond;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(double ratePerSecond, double capacity) {
+    this(ratePerSecond, ratePerSecond, capacity);
+  }
+
+  public TokenBucket(double maxRatePerSecond, double minRatePerSecond, double capacity) {
+    this.maxRatePerSecond = maxRatePerSecond;
+    this.minRatePerSecond = minRatePerSecond;
+    this.capacity = capacity;
+    this.ratePerSecond = maxRatePerSecond;
+    this.tokens = capacity;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  public synchronized boolean tryAcquire() {
+
+    refill();
+
+    if (tokens < 1) {
+      return false;
+    }
+
+    tokens -= 1;
+    return true;
+  }
+
+  public synchronized long tryReserve(long maxWaitNanos) {
+
+    refill();
+
+    double deficit = 1 - tokens;
+    long waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / ratePerSecond * 1_000_000_000.0);
+
+    if (waitNanos > maxWaitNanos) {
+      return -1;
+    }
+
+    tokens -= 1;
+    return waitNanos;
+  }
+
+  public synchronized void release() {
+    tokens = Math.min(capacity, tokens + 1);
+  }
+
+  public synchronized void onThrottled() {
+    ratePerSecond = Math.max(minRatePerSecond, ratePerSecond / 2);
+    tokens = Math.min(tokens, 0);
+  }
+
+  public synchronized void onSuccess() {
+    ratePerSecond = Math.min(maxRatePerSecond, ratePerSecond + maxRatePerSecond * RECOVERY_STEP);
+  }
+
+  public synchronized double getRatePerSecond() {
+    return ratePerSecond;
+  }
+
+  public synchronized double getAvailableTokens() {
+    refill();
+    return tokens;
+  }
+
+  private void refill() {
+
+    long now = System.nanoTime();
+    double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+
+    tokens = Math.min(capacity, tokens + elapsedSeconds * ratePerSecond);
+    lastRefillNanos = now;
+  }
+}
@@ -0,0 +1,11 @@
+package tg.vocabu.service.store;
+
+import tg.vocabu.model.entity.temp.Exercise;
+import tg.vocabu.model.entity.user.Word;
+
+public record ExerciseSession(Exercise exercise, Word word) {
+
+  public static ExerciseSession recovered(Exercise exercise) {
+    return new ExerciseSession(exercise, null);
+  }
+}
@@ -0,0 +1,233 @@
+package tg.vocabu.service.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tg.vocabu.config.ExerciseSessionConfig;
+import tg.vocabu.model.entity.temp.Exercise;
+import tg.vocabu.repository.ExerciseRepository;
+
+@Slf4j
+@Service
+public class ExerciseSessionStore {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO exercises (chat_id, word_id, eng_to_ukr, english, ukrainian, options, statuses) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+          + "ON CONFLICT (chat_id) DO UPDATE SET "
+          + "word_id = EXCLUDED.word_id, "
+          + "eng_to_ukr = EXCLUDED.eng_to_ukr, "
+          + "english = EXCLUDED.english, "
+          + "ukrainian = EXCLUDED.ukrainian, "
+          + "options = EXCLUDED.options, "
+          + "statuses = EXCLUDED.statuses";
+
+  private static final String DELETE_SQL = "DELETE FROM exercises WHERE chat_id = ANY (?)";
+  private static final PendingWrite DELETE = new PendingWrite(null);
+
+  private final ExerciseSessionConfig sessionConfig;
+  private final ExerciseRepository exerciseRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Cache<Long, ExerciseSession> sessions;
+  private final Map<Long, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+  private final Set<Long> persistedChats = ConcurrentHashMap.newKeySet();
+
+  public ExerciseSessionStore(ExerciseSessionConfig sessionConfig, ExerciseRepository exerciseRepository, JdbcTemplate jdbcTemplate) {
+
+    this.sessionConfig = sessionConfig;
+    this.exerciseRepository = exerciseRepository;
+    this.jdbcTemplate = jdbcTemplate;
+
+    this.sessions =
+        Caffeine.newBuilder()
+            .maximumSize(sessionConfig.getMaximumSize())
+            .expireAfterAccess(sessionConfig.getIdleTimeout())
+            .<Long, ExerciseSession>removalListener(
+                (chatId, session, cause) -> {
+                  if (chatId != null && cause.wasEvicted() && find(chatId).isEmpty()) {
+                    enqueueDelete(chatId);
+                  }
+                })
+            .build();
+  }
+
+  public Optional<ExerciseSession> find(long chatId) {
+    return Optional.ofNullable(sessions.getIfPresent(chatId));
+  }
+
+  public void save(ExerciseSession session) {
+
+    long chatId = session.exercise().getChatId();
+
+    sessions.put(chatId, session);
+
+    if (isPersistent()) {
+      pendingWrites.put(chatId, new PendingWrite(session.exercise()));
+    }
+  }
+
+  public void remove(long chatId) {
+
+    sessions.invalidate(chatId);
+    enqueueDelete(chatId);
+  }
+
+  public long size() {
+    return sessions.estimatedSize();
+  }
+
+  public int getPendingWrites() {
+    return pendingWrites.size();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+
+    if (!isPersistent()) {
+      return;
+    }
+
+    try {
+      List<Exercise> exercises = exerciseRepository.findAll();
+      exercises.forEach(
+          exercise -> {
+            sessions.put(exercise.getChatId(), ExerciseSession.recovered(exercise));
+            persistedChats.add(exercise.getChatId());
+          });
+
+      log.info("Recovered {} exercise sessions", exercises.size());
+
+    } catch (Exception e) {
+      log.warn("Failed to recover exercise sessions: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "#{@exerciseSessionConfig.persistent.flushIntervalMillis}")
+  public synchronized void flush() {
+
+    if (pendingWrites.isEmpty()) {
+      return;
+    }
+
+    int batchSize = sessionConfig.getPersistent().getBatchSize();
+    Map<Long, PendingWrite> drained = new HashMap<>();
+
+    Iterator<Long> iterator = pendingWrites.keySet().iterator();
+
+    while (iterator.hasNext()) {
+
+      Long chatId = iterator.next();
+      PendingWrite pending = pendingWrites.get(chatId);
+
+      if (pending != null) {
+
+        if (pending.exercise() != null) {
+          persistedChats.add(chatId);
+        }
+
+        if (pendingWrites.remove(chatId, pending)) {
+          drained.put(chatId, pending);
+        }
+      }
+
+      if (drained.size() >= batchSize || !iterator.hasNext()) {
+        writeBatch(drained);
+        drained.clear();
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+
+  private void writeBatch(Map<Long, PendingWrite> drained) {
+
+    if (drained.isEmpty()) {
+      return;
+    }
+
+    List<Exercise> upserts = new ArrayList<>();
+    List<Long> deletes = new ArrayList<>();
+
+    drained.forEach(
+        (chatId, pending) -> {
+          if (pending.exercise() != null) {
+            upserts.add(pending.exercise());
+          } else {
+            deletes.add(chatId);
+          }
+        });
+
+    try {
+      if (!upserts.isEmpty()) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, upserts, upserts.size(), this::bindExercise);
+      }
+
+      if (!deletes.isEmpty()) {
+        jdbcTemplate.update(
+            connection -> {
+              PreparedStatement statement = connection.prepareStatement(DELETE_SQL);
+              statement.setArray(1, connection.createArrayOf("bigint", deletes.toArray()));
+              return statement;
+            });
+      }
+
+      deletes.forEach(persistedChats::remove);
+
+      log.debug("Flushed exercise sessions: {} saved, {} deleted", upserts.size(), deletes.size());
+
+    } catch (Exception e) {
+      log.error("Failed to flush {} exercise sessions: {}", drained.size(), e.getMessage());
+      drained.forEach(pendingWrites::putIfAbsent);
+    }
+  }
+
+  private void bindExercise(PreparedStatement statement, Exercise exercise) throws SQLException {
+
+    Connection connection = statement.getConnection();
+    Array options = connection.createArrayOf("varchar", exercise.getOptions());
+    Array statuses = connection.createArrayOf("varchar", exercise.getStatuses());
+
+    statement.setLong(1, exercise.getChatId());
+    statement.setObject(2, exercise.getWordId());
+    statement.setBoolean(3, exercise.isEngToUkr());
+    statement.setString(4, exercise.getEnglish());
+    statement.setString(5, exercise.getUkrainian());
+    statement.setArray(6, options);
+    statement.setArray(7, statuses);
+  }
+
+  private void enqueueDelete(long chatId) {
+
+    if (isPersistent()) {
+      pendingWrites.compute(chatId, (key, pending) -> persistedChats.contains(key) ? DELETE : null);
+    }
+  }
+
+  private boolean isPersistent() {
+    return sessionConfig.getPersistent().isEnabled();
+  }
+
+  private record PendingWrite(Exercise exercise) {}
+}
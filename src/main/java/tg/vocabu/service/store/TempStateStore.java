@@ -0,0 +1,278 @@
+package tg.vocabu.service.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tg.vocabu.config.TempStateConfig;
+import tg.vocabu.model.entity.temp.CallbackQueryTemp;
+import tg.vocabu.model.entity.temp.WordTemp;
+import tg.vocabu.model.enums.LanguageCode;
+import tg.vocabu.model.enums.TranslationMethod;
+import tg.vocabu.repository.CallbackQueryRepository;
+import tg.vocabu.repository.WordTempRepository;
+
+@Slf4j
+@Service
+public class TempStateStore {
+
+  private static final String NEXT_DRAFT_ID_SQL = "SELECT nextval(pg_get_serial_sequence('words_temp', 'id'))";
+
+  private final TempStateConfig tempStateConfig;
+  private final CallbackQueryRepository callbackQueryRepository;
+  private final WordTempRepository wordTempRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Cache<Long, CallbackQueryTemp> pendingCommands;
+  private final Cache<Long, WordTemp> drafts;
+  private final Cache<Long, String> userSearches;
+
+  private final AtomicLong draftSequence = new AtomicLong();
+
+  public TempStateStore(
+      TempStateConfig tempStateConfig,
+      CallbackQueryRepository callbackQueryRepository,
+      WordTempRepository wordTempRepository,
+      JdbcTemplate jdbcTemplate) {
+
+    this.tempStateConfig = tempStateConfig;
+    this.callbackQueryRepository = callbackQueryRepository;
+    this.wordTempRepository = wordTempRepository;
+    this.jdbcTemplate = jdbcTemplate;
+
+    this.pendingCommands =
+        Caffeine.newBuilder()
+            .maximumSize(tempStateConfig.getMaximumSize())
+            .expireAfterWrite(tempStateConfig.getPendingCommandTtl())
+            .<Long, CallbackQueryTemp>removalListener(
+                (chatId, pending, cause) -> {
+                  if (cause == RemovalCause.SIZE && tempStateConfig.isSpillEnabled()) {
+                    spillCommand(pending);
+                  }
+                })
+            .build();
+
+    this.drafts =
+        Caffeine.newBuilder()
+            .maximumSize(tempStateConfig.getMaximumSize())
+            .expireAfterWrite(tempStateConfig.getDraftTtl())
+            .<Long, WordTemp>removalListener(
+                (draftId, draft, cause) -> {
+                  if (cause == RemovalCause.SIZE && tempStateConfig.isSpillEnabled()) {
+                    spillDraft(draft);
+                  }
+                })
+            .build();
+
+    this.userSearches = Caffeine.newBuilder().maximumSize(tempStateConfig.getMaximumSize()).expireAfterAccess(tempStateConfig.getDraftTtl()).build();
+  }
+
+  public void putPendingCommand(long chatId, String callbackQuery) {
+
+    removePendingCommand(chatId);
+    pendingCommands.put(chatId, new CallbackQueryTemp(chatId, callbackQuery, Instant.now().plus(tempStateConfig.getPendingCommandTtl())));
+  }
+
+  public Optional<String> takePendingCommand(long chatId) {
+
+    CallbackQueryTemp pending = pendingCommands.asMap().remove(chatId);
+
+    if (pending == null && tempStateConfig.isSpillEnabled()) {
+      pending = takeSpilledCommand(chatId);
+    }
+
+    return Optional.ofNullable(pending).map(CallbackQueryTemp::getCallbackQuery);
+  }
+
+  public void removePendingCommand(long chatId) {
+
+    pendingCommands.invalidate(chatId);
+
+    if (tempStateConfig.isSpillEnabled()) {
+      callbackQueryRepository.deleteById(chatId);
+    }
+  }
+
+  public WordTemp createDraft(long chatId, String english, String ukrainian, TranslationMethod translationMethod, LanguageCode sourceLanguage) {
+
+    WordTemp draft =
+        WordTemp.builder()
+            .id(nextDraftId())
+            .chatId(chatId)
+            .english(english)
+            .ukrainian(ukrainian)
+            .translationMethod(translationMethod)
+            .sourceLanguage(sourceLanguage)
+            .expiresAt(Instant.now().plus(tempStateConfig.getDraftTtl()))
+            .build();
+
+    drafts.put(draft.getId(), draft);
+
+    return draft;
+  }
+
+  public Optional<WordTemp> findDraft(long draftId, long chatId) {
+
+    WordTemp draft = drafts.getIfPresent(draftId);
+
+    if (draft == null && tempStateConfig.isSpillEnabled()) {
+      draft = findSpilledDraft(draftId);
+    }
+
+    return Optional.ofNullable(draft).filter(found -> isOwnedBy(found, chatId));
+  }
+
+  public Optional<WordTemp> takeDraft(long draftId, long chatId) {
+
+    WordTemp draft = drafts.getIfPresent(draftId);
+
+    if (draft != null) {
+      if (!isOwnedBy(draft, chatId)) {
+        return Optional.empty();
+      }
+
+      drafts.invalidate(draftId);
+      return Optional.of(draft);
+    }
+
+    if (!tempStateConfig.isSpillEnabled()) {
+      return Optional.empty();
+    }
+
+    Optional<WordTemp> spilled = Optional.ofNullable(findSpilledDraft(draftId)).filter(found -> isOwnedBy(found, chatId));
+    spilled.ifPresent(wordTempRepository::delete);
+
+    return spilled;
+  }
+
+  public void putUserSearch(long chatId, String query) {
+    userSearches.put(chatId, query);
+  }
+
+  public Optional<String> findUserSearch(long chatId) {
+    return Optional.ofNullable(userSearches.getIfPresent(chatId));
+  }
+
+  public void removeUserSearch(long chatId) {
+    userSearches.invalidate(chatId);
+  }
+
+  public void clear(long chatId) {
+
+    removePendingCommand(chatId);
+    removeUserSearch(chatId);
+
+    drafts.asMap().values().removeIf(draft -> isOwnedBy(draft, chatId));
+
+    if (tempStateConfig.isSpillEnabled()) {
+      wordTempRepository.deleteByChatId(chatId);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "#{@tempStateConfig.spillCleanupIntervalMillis}")
+  public void deleteExpiredSpills() {
+
+    Instant now = Instant.now();
+
+    try {
+      int expiredDrafts = wordTempRepository.deleteExpired(now);
+      int expiredCommands = callbackQueryRepository.deleteExpired(now);
+
+      if (expiredDrafts + expiredCommands > 0) {
+        log.info("Deleted {} expired spilled drafts and {} expired spilled pending commands", expiredDrafts, expiredCommands);
+      }
+
+    } catch (Exception e) {
+      log.warn("Failed to delete expired temporary state: {}", e.getMessage());
+    }
+  }
+
+  private long nextDraftId() {
+
+    if (!tempStateConfig.isSpillEnabled()) {
+      return draftSequence.incrementAndGet();
+    }
+
+    // Spilled drafts outlive the process, so their ids have to come from the table's own sequence.
+    return jdbcTemplate.queryForObject(NEXT_DRAFT_ID_SQL, Long.class);
+  }
+
+  private CallbackQueryTemp takeSpilledCommand(long chatId) {
+
+    try {
+      CallbackQueryTemp spilled = callbackQueryRepository.findById(chatId).orElse(null);
+
+      if (spilled == null) {
+        return null;
+      }
+
+      callbackQueryRepository.delete(spilled);
+
+      return isLive(spilled.getExpiresAt()) ? spilled : null;
+
+    } catch (Exception e) {
+      log.warn("Failed to read spilled pending command for chat {}: {}", chatId, e.getMessage());
+      return null;
+    }
+  }
+
+  private WordTemp findSpilledDraft(long draftId) {
+
+    try {
+      WordTemp spilled = wordTempRepository.findById(draftId).orElse(null);
+
+      if (spilled != null && !isLive(spilled.getExpiresAt())) {
+        wordTempRepository.delete(spilled);
+        return null;
+      }
+
+      return spilled;
+
+    } catch (Exception e) {
+      log.warn("Failed to read spilled draft {}: {}", draftId, e.getMessage());
+      return null;
+    }
+  }
+
+  private void spillCommand(CallbackQueryTemp pending) {
+
+    if (!isLive(pending.getExpiresAt())) {
+      return;
+    }
+
+    try {
+      callbackQueryRepository.save(pending);
+
+    } catch (Exception e) {
+      log.warn("Failed to spill pending command for chat {}: {}", pending.getChatId(), e.getMessage());
+    }
+  }
+
+  private void spillDraft(WordTemp draft) {
+
+    if (!isLive(draft.getExpiresAt())) {
+      return;
+    }
+
+    try {
+      wordTempRepository.save(draft);
+
+    } catch (Exception e) {
+      log.warn("Failed to spill draft {}: {}", draft.getId(), e.getMessage());
+    }
+  }
+
+  private static boolean isLive(Instant expiresAt) {
+    return expiresAt != null && expiresAt.isAfter(Instant.now());
+  }
+
+  private static boolean isOwnedBy(WordTemp draft, long chatId) {
+    return draft.getChatId() != null && draft.getChatId() == chatId;
+  }
+}
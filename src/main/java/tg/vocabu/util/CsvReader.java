@@ -0,0 +1,115 @@
+package tg.vocabu.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvReader implements Closeable {
+
+  private static final int END_OF_STREAM = -1;
+
+  private final Reader reader;
+  private final StringBuilder field = new StringBuilder();
+
+  private int pushedBack = END_OF_STREAM;
+  private boolean finished;
+
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  public List<String> readRecord() throws IOException {
+
+    if (finished) {
+      return null;
+    }
+
+    List<String> record = new ArrayList<>(2);
+    field.setLength(0);
+
+    boolean quoted = false;
+    boolean fieldStarted = false;
+
+    while (true) {
+
+      int c = read();
+
+      if (c == END_OF_STREAM) {
+        finished = true;
+
+        if (!fieldStarted && record.isEmpty()) {
+          return null;
+        }
+
+        record.add(field.toString());
+        return record;
+      }
+
+      if (quoted) {
+        if (c == '"') {
+          int next = read();
+
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            pushedBack = next;
+          }
+        } else {
+          field.append((char) c);
+        }
+
+        continue;
+      }
+
+      switch (c) {
+        case '"' -> {
+          quoted = true;
+          fieldStarted = true;
+        }
+        case ',' -> {
+          record.add(field.toString());
+          field.setLength(0);
+          fieldStarted = true;
+        }
+        case '\r' -> {
+          int next = read();
+
+          if (next != '\n') {
+            pushedBack = next;
+          }
+
+          record.add(field.toString());
+          return record;
+        }
+        case '\n' -> {
+          record.add(field.toString());
+          return record;
+        }
+        default -> {
+          field.append((char) c);
+          fieldStarted = true;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private int read() throws IOException {
+
+    if (pushedBack != END_OF_STREAM) {
+      int c = pushedBack;
+      pushedBack = END_OF_STREAM;
+
+      return c;
+    }
+
+    return reader.read();
+  }
+}
@@ -1,24 +1,44 @@
 package tg.vocabu.util;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
-import java.util.ArrayList;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 import org.springframework.stereotype.Component;
 import tg.vocabu.config.DictionaryConfig;
-import tg.vocabu.model.entity.dictionary.DictionaryWord;
+import tg.vocabu.model.entity.dictionary.DictionarySyncState;
 import tg.vocabu.repository.DictionaryRepository;
+import tg.vocabu.repository.DictionarySyncStateRepository;
+import tg.vocabu.util.DictionarySynchronizer.SyncResult;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DictionaryImporter {
 
+  private static final String COPY_SQL = "COPY dictionary (english, ukrainian, source) FROM STDIN WITH (FORMAT csv)";
+  private static final byte[] FILE_SOURCE = ",FILE\n".getBytes(StandardCharsets.UTF_8);
+  private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
   private final DictionaryConfig dictionaryConfig;
+  private final DictionarySynchronizer dictionarySynchronizer;
 
   private final DictionaryRepository dictionaryRepository;
+  private final DictionarySyncStateRepository syncStateRepository;
+  private final DataSource dataSource;
 
   public void importDictionary() throws Exception {
 
@@ -27,46 +47,152 @@ public class DictionaryImporter {
       return;
     }
 
-    if (dictionaryRepository.count() > 0 && !dictionaryConfig.isResetBeforeImport()) {
-      log.info("Dictionary already contains data. Skipping import.");
-      return;
-    }
+    importFromSource();
+  }
+
+  public Optional<SyncResult> importFromSource() throws Exception {
+
+    String filePath = dictionaryConfig.getSourceFilePath();
+    Path path = Path.of(filePath);
 
     if (dictionaryConfig.isResetBeforeImport()) {
       log.info("Resetting dictionary before import.");
-      dictionaryRepository.deleteAll();
+      dictionaryRepository.deleteAllInBatch();
+
+      return Optional.of(copyAndRecord(path, hash(path)));
+    }
+
+    boolean empty = dictionaryRepository.count() == 0;
+
+    if (dictionaryConfig.getMode() == DictionaryConfig.Mode.IMPORT) {
+
+      if (!empty) {
+        log.info("Dictionary already contains data. Skipping import.");
+        return Optional.empty();
+      }
+
+      return Optional.of(copyAndRecord(path, hash(path)));
+    }
+
+    String contentHash = hash(path);
+    Optional<DictionarySyncState> state = syncStateRepository.findById(filePath);
+
+    if (state.isPresent() && contentHash.equals(state.get().getContentHash()) && !empty) {
+      log.info("Dictionary source unchanged since {}. Skipping sync.", state.get().getSyncedAt());
+      return Optional.empty();
     }
 
+    if (empty) {
+      return Optional.of(copyAndRecord(path, contentHash));
+    }
+
+    long startTime = System.nanoTime();
+    SyncResult result = dictionarySynchronizer.sync(path, state.isEmpty());
+
+    saveState(filePath, contentHash, result.fileRows());
+
+    log.info(
+        "Dictionary synced from file: {} ({} inserted, {} updated, {} deleted in {}ms)",
+        filePath,
+        result.inserted(),
+        result.updated(),
+        result.deleted(),
+        (System.nanoTime() - startTime) / 1_000_000);
+
+    return Optional.of(result);
+  }
+
+  private SyncResult copyAndRecord(Path path, String contentHash) throws Exception {
+
     String filePath = dictionaryConfig.getSourceFilePath();
+    long startTime = System.nanoTime();
+
+    long rows = copyFromFile(path);
 
-    List<DictionaryWord> batch = new ArrayList<>();
-    int batchSize = 500;
+    double seconds = Math.max(System.nanoTime() - startTime, 1) / 1_000_000_000.0;
 
-    try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
+    log.info(
+        "Dictionary import completed from file: {} ({} rows in {}ms, {} rows/s)", filePath, rows, Math.round(seconds * 1000), Math.round(rows / seconds));
 
-      String line;
-      br.readLine();
+    saveState(filePath, contentHash, rows);
 
-      while ((line = br.readLine()) != null) {
-        String[] parts = line.split(",", 2);
-        if (parts.length < 2) continue;
+    return new SyncResult(rows, rows, 0, 0);
+  }
+
+  private long copyFromFile(Path path) throws Exception {
+
+    try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        CsvReader csvReader = new CsvReader(br);
+        Connection connection = dataSource.getConnection()) {
+
+      if (dictionaryConfig.isSkipHeader()) {
+        csvReader.readRecord();
+      }
+
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(COPY_BUFFER_BYTES + 1024);
+
+      try {
+        List<String> record;
 
-        DictionaryWord word = new DictionaryWord();
-        word.setEnglish(parts[0].trim());
-        word.setUkrainian(parts[1].trim());
+        while ((record = csvReader.readRecord()) != null) {
+
+          if (!DictionarySynchronizer.isValid(record)) {
+            continue;
+          }
+
+          writeCsvField(buffer, record.get(0).trim());
+          buffer.write(',');
+          writeCsvField(buffer, record.get(1).trim());
+          buffer.write(FILE_SOURCE, 0, FILE_SOURCE.length);
+
+          if (buffer.size() >= COPY_BUFFER_BYTES) {
+            copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            buffer.reset();
+          }
+        }
+
+        if (buffer.size() > 0) {
+          copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+        }
 
-        batch.add(word);
+        return copyIn.endCopy();
 
-        if (batch.size() >= batchSize) {
-          dictionaryRepository.saveAll(batch);
-          batch.clear();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
         }
       }
-      if (!batch.isEmpty()) {
-        dictionaryRepository.saveAll(batch);
+    }
+  }
+
+  private void saveState(String filePath, String contentHash, long rowCount) {
+    syncStateRepository.save(new DictionarySyncState(filePath, contentHash, rowCount, Instant.now()));
+  }
+
+  private static String hash(Path path) throws Exception {
+
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+    try (InputStream inputStream = Files.newInputStream(path)) {
+
+      byte[] chunk = new byte[COPY_BUFFER_BYTES];
+      int read;
+
+      while ((read = inputStream.read(chunk)) != -1) {
+        digest.update(chunk, 0, read);
       }
     }
 
-    log.info("Dictionary import completed from file: {}", filePath);
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void writeCsvField(ByteArrayOutputStream buffer, String value) {
+
+    byte[] bytes = value.replace("\"", "\"\"").getBytes(StandardCharsets.UTF_8);
+
+    buffer.write('"');
+    buffer.write(bytes, 0, bytes.length);
+    buffer.write('"');
   }
 }
@@ -0,0 +1,112 @@
+package tg.vocabu.util;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tg.vocabu.config.DictionaryConfig;
+import tg.vocabu.model.enums.DictionarySource;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DictionarySynchronizer {
+
+  private static final String SELECT_SQL = "SELECT id, english, ukrainian, source FROM dictionary";
+  private static final String INSERT_SQL = "INSERT INTO dictionary (english, ukrainian, source) VALUES (?, ?, 'FILE')";
+  private static final String UPDATE_SQL = "UPDATE dictionary SET ukrainian = ?, source = 'FILE' WHERE id = ?";
+  private static final String DELETE_SQL = "DELETE FROM dictionary WHERE id = ?";
+
+  private final DictionaryConfig dictionaryConfig;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public SyncResult sync(Path path, boolean adoptExistingRows) throws Exception {
+
+    Map<String, String> fileRows = readFileRows(path);
+    Map<String, ExistingRow> tableRows = new HashMap<>();
+
+    List<Object[]> inserts = new ArrayList<>();
+    List<Object[]> updates = new ArrayList<>();
+    List<Object[]> deletes = new ArrayList<>();
+
+    jdbcTemplate.query(
+        SELECT_SQL,
+        rs -> {
+          ExistingRow row = new ExistingRow(rs.getLong("id"), rs.getString("ukrainian"), DictionarySource.valueOf(rs.getString("source")));
+
+          if (tableRows.putIfAbsent(rs.getString("english"), row) != null && row.source() == DictionarySource.FILE) {
+            deletes.add(new Object[] {row.id()});
+          }
+        });
+
+    fileRows.forEach(
+        (english, ukrainian) -> {
+          ExistingRow existing = tableRows.remove(english);
+
+          if (existing == null) {
+            inserts.add(new Object[] {english, ukrainian});
+          } else if (existing.source() == DictionarySource.FILE ? !ukrainian.equals(existing.ukrainian()) : adoptExistingRows) {
+            updates.add(new Object[] {ukrainian, existing.id()});
+          }
+        });
+
+    tableRows.values().stream().filter(row -> row.source() == DictionarySource.FILE).forEach(row -> deletes.add(new Object[] {row.id()}));
+
+    applyInBatches(INSERT_SQL, inserts);
+    applyInBatches(UPDATE_SQL, updates);
+    applyInBatches(DELETE_SQL, deletes);
+
+    return new SyncResult(fileRows.size(), inserts.size(), updates.size(), deletes.size());
+  }
+
+  Map<String, String> readFileRows(Path path) throws Exception {
+
+    Map<String, String> rows = new LinkedHashMap<>();
+
+    try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        CsvReader csvReader = new CsvReader(br)) {
+
+      if (dictionaryConfig.isSkipHeader()) {
+        csvReader.readRecord();
+      }
+
+      List<String> record;
+
+      while ((record = csvReader.readRecord()) != null) {
+        if (isValid(record)) {
+          rows.putIfAbsent(record.get(0).trim(), record.get(1).trim());
+        }
+      }
+    }
+
+    return rows;
+  }
+
+  static boolean isValid(List<String> record) {
+    return record.size() >= 2 && !record.get(0).isBlank() && !record.get(1).isBlank();
+  }
+
+  private void applyInBatches(String sql, List<Object[]> rows) {
+
+    int batchSize = dictionaryConfig.getSyncBatchSize();
+
+    for (int from = 0; from < rows.size(); from += batchSize) {
+      jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+    }
+  }
+
+  public record SyncResult(long fileRows, long inserted, long updated, long deleted) {}
+
+  private record ExistingRow(long id, String ukrainian, DictionarySource source) {}
+}
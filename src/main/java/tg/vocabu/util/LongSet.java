@@ -0,0 +1,121 @@
+package tg.vocabu.util;
+
+import java.util.Arrays;
+
+public final class LongSet {
+
+  private static final long EMPTY = 0L;
+  private static final LongSet NONE = new LongSet(new long[0], false, 0);
+
+  private final long[] table;
+  private final boolean containsZero;
+  private final int size;
+
+  private LongSet(long[] table, boolean containsZero, int size) {
+    this.table = table;
+    this.containsZero = containsZero;
+    this.size = size;
+  }
+
+  public static LongSet empty() {
+    return NONE;
+  }
+
+  public static LongSet of(long... values) {
+
+    long[] table = new long[tableSize(values.length)];
+    boolean containsZero = false;
+    int size = 0;
+
+    for (long value : values) {
+
+      if (value == EMPTY) {
+        size += containsZero ? 0 : 1;
+        containsZero = true;
+      } else if (insert(table, value)) {
+        size++;
+      }
+    }
+
+    return new LongSet(table, containsZero, size);
+  }
+
+  public boolean contains(long value) {
+
+    if (value == EMPTY) {
+      return containsZero;
+    }
+
+    if (table.length == 0) {
+      return false;
+    }
+
+    int mask = table.length - 1;
+
+    for (int index = mix(value) & mask; ; index = (index + 1) & mask) {
+
+      long current = table[index];
+
+      if (current == value) {
+        return true;
+      }
+
+      if (current == EMPTY) {
+        return false;
+      }
+    }
+  }
+
+  public LongSet with(long value) {
+    return contains(value) ? this : of(append(toArray(), value));
+  }
+
+  public LongSet without(long value) {
+    return contains(value) ? of(Arrays.stream(toArray()).filter(current -> current != value).toArray()) : this;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long[] toArray() {
+
+    long[] values = Arrays.stream(table).filter(value -> value != EMPTY).toArray();
+    return containsZero ? append(values, EMPTY) : values;
+  }
+
+  private static boolean insert(long[] table, long value) {
+
+    int mask = table.length - 1;
+
+    for (int index = mix(value) & mask; ; index = (index + 1) & mask) {
+
+      if (table[index] == value) {
+        return false;
+      }
+
+      if (table[index] == EMPTY) {
+        table[index] = value;
+        return true;
+      }
+    }
+  }
+
+  private static long[] append(long[] values, long value) {
+
+    long[] extended = Arrays.copyOf(values, values.length + 1);
+    extended[values.length] = value;
+
+    return extended;
+  }
+
+  private static int tableSize(int count) {
+    return Integer.highestOneBit(Math.max(4, count * 2) - 1) << 1;
+  }
+
+  private static int mix(long value) {
+
+    long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+}
@@ -0,0 +1,221 @@
+package tg.vocabu.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class SymSpellIndex {
+
+  private static final int PREFIX_LENGTH = 7;
+  private static final String[] NO_TERMS = new String[0];
+
+  private static final int OBJECT_HEADER_BYTES = 16;
+  private static final int STRING_BYTES = 24;
+  private static final int MAP_NODE_BYTES = 32;
+  private static final int REFERENCE_BYTES = 4;
+
+  private final int maxDistance;
+  private final Map<String, String[]> deletes;
+
+  private volatile int size;
+
+  private SymSpellIndex(int maxDistance, Map<String, String[]> deletes, int size) {
+    this.maxDistance = maxDistance;
+    this.deletes = deletes;
+    this.size = size;
+  }
+
+  public static SymSpellIndex empty(int maxDistance) {
+    return new SymSpellIndex(maxDistance, new ConcurrentHashMap<>(), 0);
+  }
+
+  public static SymSpellIndex of(Collection<String> terms, int maxDistance) {
+
+    Map<String, List<String>> buckets = new HashMap<>(terms.size() * 16);
+    Set<String> unique = new HashSet<>(terms);
+
+    for (String term : unique) {
+      for (String delete : deletes(prefix(term), maxDistance)) {
+        buckets.computeIfAbsent(delete, key -> new ArrayList<>(2)).add(term);
+      }
+    }
+
+    Map<String, String[]> deletes = new ConcurrentHashMap<>(buckets.size());
+    buckets.forEach((delete, bucket) -> deletes.put(delete, bucket.toArray(NO_TERMS)));
+
+    return new SymSpellIndex(maxDistance, deletes, unique.size());
+  }
+
+  public synchronized boolean add(String term) {
+
+    String prefix = prefix(term);
+
+    for (String candidate : deletes.getOrDefault(prefix, NO_TERMS)) {
+      if (candidate.equals(term)) {
+        return false;
+      }
+    }
+
+    for (String delete : deletes(prefix, maxDistance)) {
+      deletes.merge(delete, new String[] {term}, SymSpellIndex::concat);
+    }
+
+    size++;
+    return true;
+  }
+
+  public List<Suggestion> lookup(String input, int distance) {
+
+    int limit = Math.min(distance, maxDistance);
+
+    if (input.isEmpty() || size == 0) {
+      return List.of();
+    }
+
+    List<Suggestion> suggestions = new ArrayList<>();
+    Set<String> checked = new HashSet<>();
+
+    for (String delete : deletes(prefix(input), limit)) {
+
+      String[] candidates = deletes.getOrDefault(delete, NO_TERMS);
+
+      for (String candidate : candidates) {
+
+        if (Math.abs(candidate.length() - input.length()) > limit || !checked.add(candidate)) {
+          continue;
+        }
+
+        int candidateDistance = distance(input, candidate, limit);
+
+        if (candidateDistance <= limit) {
+          suggestions.add(new Suggestion(candidate, candidateDistance));
+        }
+      }
+    }
+
+    suggestions.sort(Comparator.comparingInt(Suggestion::distance).thenComparing(Suggestion::term));
+
+    return suggestions;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long estimateMemoryBytes() {
+
+    long bytes = (long) Integer.highestOneBit(Math.max(1, deletes.size() * 2)) * REFERENCE_BYTES;
+
+    for (Map.Entry<String, String[]> entry : deletes.entrySet()) {
+
+      String delete = entry.getKey();
+      boolean latin1 = delete.chars().allMatch(c -> c < 256);
+
+      bytes += MAP_NODE_BYTES + STRING_BYTES + align(OBJECT_HEADER_BYTES + (long) delete.length() * (latin1 ? 1 : 2));
+      bytes += align(OBJECT_HEADER_BYTES + (long) entry.getValue().length * REFERENCE_BYTES);
+    }
+
+    return bytes;
+  }
+
+  static int distance(String source, String target, int limit) {
+
+    int sourceLength = source.length();
+    int targetLength = target.length();
+
+    if (Math.abs(sourceLength - targetLength) > limit) {
+      return limit + 1;
+    }
+
+    int[] previousPrevious = new int[targetLength + 1];
+    int[] previous = new int[targetLength + 1];
+    int[] current = new int[targetLength + 1];
+
+    for (int j = 0; j <= targetLength; j++) {
+      previous[j] = j;
+    }
+
+    for (int i = 1; i <= sourceLength; i++) {
+
+      current[0] = i;
+      int rowMinimum = i;
+
+      for (int j = 1; j <= targetLength; j++) {
+
+        int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+        int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+
+        if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2) && source.charAt(i - 2) == target.charAt(j - 1)) {
+          value = Math.min(value, previousPrevious[j - 2] + 1);
+        }
+
+        current[j] = value;
+        rowMinimum = Math.min(rowMinimum, value);
+      }
+
+      if (rowMinimum > limit) {
+        return limit + 1;
+      }
+
+      int[] recycled = previousPrevious;
+      previousPrevious = previous;
+      previous = current;
+      current = recycled;
+    }
+
+    return previous[targetLength];
+  }
+
+  private static String[] concat(String[] bucket, String[] added) {
+
+    String[] merged = Arrays.copyOf(bucket, bucket.length + added.length);
+    System.arraycopy(added, 0, merged, bucket.length, added.length);
+
+    return merged;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  private static String prefix(String term) {
+    return term.length() > PREFIX_LENGTH ? term.substring(0, PREFIX_LENGTH) : term;
+  }
+
+  private static Set<String> deletes(String term, int distance) {
+
+    Set<String> result = new HashSet<>();
+    result.add(term);
+
+    List<String> frontier = List.of(term);
+
+    for (int step = 0; step < distance; step++) {
+
+      List<String> next = new ArrayList<>();
+
+      for (String word : frontier) {
+        for (int i = 0; i < word.length(); i++) {
+
+          String delete = word.substring(0, i) + word.substring(i + 1);
+
+          if (result.add(delete)) {
+            next.add(delete);
+          }
+        }
+      }
+
+      frontier = next;
+    }
+
+    return result;
+  }
+
+  public record Suggestion(String term, int distance) {}
+}
@@ -0,0 +1,51 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update).
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    chat_id       BIGINT       NOT NULL,
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    user_name     VARCHAR(255),
+    language_code VARCHAR(255),
+    is_bot        BOOLEAN      NOT NULL,
+    banned        BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS words (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    chat_id   BIGINT       NOT NULL,
+    english   VARCHAR(255),
+    ukrainian VARCHAR(255),
+    score     INTEGER      NOT NULL,
+    learned   BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS dictionary (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    english   VARCHAR(255),
+    ukrainian VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS words_temp (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    chat_id            BIGINT,
+    english            VARCHAR(255),
+    ukrainian          VARCHAR(255),
+    translation_method SMALLINT CHECK (translation_method BETWEEN 0 AND 1)
+);
+
+CREATE TABLE IF NOT EXISTS callback_queries_temp (
+    chat_id        BIGINT NOT NULL PRIMARY KEY,
+    callback_query VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS exercises (
+    chat_id    BIGINT  NOT NULL PRIMARY KEY,
+    word_id    BIGINT,
+    eng_to_ukr BOOLEAN NOT NULL,
+    english    VARCHAR(255),
+    ukrainian  VARCHAR(255),
+    options    VARCHAR(255)[],
+    statuses   VARCHAR(255)[]
+);
@@ -0,0 +1,26 @@
+-- Columns and tables introduced while the schema was still managed by ddl-auto: update.
+-- IF NOT EXISTS keeps this safe on databases where Hibernate already created them.
+
+ALTER TABLE words ADD COLUMN IF NOT EXISTS review_box INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE words ADD COLUMN IF NOT EXISTS due_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+ALTER TABLE dictionary ADD COLUMN IF NOT EXISTS source VARCHAR(255) DEFAULT 'RUNTIME' NOT NULL;
+
+CREATE TABLE IF NOT EXISTS translation_cache (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    source_text  VARCHAR(1000),
+    source_lang  VARCHAR(255),
+    target_lang  VARCHAR(255),
+    translation  VARCHAR(5000),
+    hits         BIGINT NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE,
+    last_used_at TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT uk_translation_cache_key UNIQUE (source_text, source_lang, target_lang)
+);
+
+CREATE TABLE IF NOT EXISTS dictionary_sync_state (
+    source_path  VARCHAR(255) NOT NULL PRIMARY KEY,
+    content_hash VARCHAR(255),
+    row_count    BIGINT       NOT NULL,
+    synced_at    TIMESTAMP(6) WITH TIME ZONE
+);
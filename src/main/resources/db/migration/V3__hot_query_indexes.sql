@@ -0,0 +1,6 @@
+-- Vocabulary pages and due-word selection (keyset on id, ordered by due_at).
+CREATE INDEX IF NOT EXISTS idx_words_chat_learned_id ON words (chat_id, learned, id);
+CREATE INDEX IF NOT EXISTS idx_words_chat_learned_due ON words (chat_id, learned, due_at);
+
+-- Persistent translation cache warm-up reads the hottest entries first.
+CREATE INDEX IF NOT EXISTS idx_translation_cache_hits ON translation_cache (hits DESC);
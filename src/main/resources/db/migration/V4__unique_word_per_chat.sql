@@ -0,0 +1,9 @@
+-- Keep the most progressed copy of each word before enforcing one row per chat.
+DELETE FROM words w
+USING words d
+WHERE w.chat_id = d.chat_id
+  AND w.english = d.english
+  AND (w.score, w.id) < (d.score, d.id);
+
+-- The unique index also serves the per-chat duplicate check and the english listing.
+ALTER TABLE words ADD CONSTRAINT uq_words_chat_english UNIQUE (chat_id, english);
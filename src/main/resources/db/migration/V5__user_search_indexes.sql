@@ -0,0 +1,4 @@
+-- Substring search by username for the admin user list.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_user_name_trgm ON users USING gin (lower(user_name) gin_trgm_ops);
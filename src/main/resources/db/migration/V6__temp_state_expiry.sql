@@ -0,0 +1,10 @@
+-- Spilled temporary state carries its own expiry so it can be checked on read and purged on a schedule.
+-- Rows spilled before expiry was tracked cannot be aged out, so they are dropped.
+DELETE FROM words_temp;
+DELETE FROM callback_queries_temp;
+
+ALTER TABLE words_temp ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL;
+ALTER TABLE callback_queries_temp ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_words_temp_expires_at ON words_temp (expires_at);
+CREATE INDEX IF NOT EXISTS idx_callback_queries_temp_expires_at ON callback_queries_temp (expires_at);
@@ -0,0 +1,2 @@
+-- Language the user's word was in, so a confirmed correction renders the same buttons as a direct translation.
+ALTER TABLE words_temp ADD COLUMN IF NOT EXISTS source_language VARCHAR(255);
@@ -0,0 +1,194 @@
+package tg.vocabu.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import tg.vocabu.config.BotConfig;
+import tg.vocabu.config.OutboundConfig;
+import tg.vocabu.service.BotMetrics;
+
+class OutboundMessageQueueTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OutboundMessageQueue queue = new OutboundMessageQueue(outboundConfig(), new BotMetrics(meterRegistry));
+
+  private final Map<String, Deque<Integer>> failures = new ConcurrentHashMap<>();
+  private final List<String> attempts = new CopyOnWriteArrayList<>();
+  private final List<String> delivered = new CopyOnWriteArrayList<>();
+  private final TelegramBot bot = scriptedBot();
+
+  @AfterEach
+  void shutdown() {
+    queue.shutdown();
+  }
+
+  @Test
+  void deliversEachChatInOrder() throws InterruptedException {
+
+    for (int i = 0; i < 20; i++) {
+      assertTrue(queue.send(bot, 1, message(1, "a" + i)));
+      assertTrue(queue.send(bot, 2, message(2, "b" + i)));
+    }
+
+    awaitDrained();
+
+    assertEquals(40, delivered.size());
+    assertEquals(numbered("a", 20), delivered.stream().filter(text -> text.startsWith("a")).toList());
+    assertEquals(numbered("b", 20), delivered.stream().filter(text -> text.startsWith("b")).toList());
+  }
+
+  @Test
+  void retriesRateLimitAndServerErrorsWithoutReordering() throws InterruptedException {
+
+    failWith("first", 429, 502);
+
+    queue.send(bot, 1, message(1, "first"));
+    queue.send(bot, 1, message(1, "second"));
+
+    awaitDrained();
+
+    assertEquals(List.of("first", "first", "first", "second"), attempts);
+    assertEquals(List.of("first", "second"), delivered);
+    assertEquals(1, retries("rate_limited"));
+    assertEquals(1, retries("transient"));
+  }
+
+  @Test
+  void dropsRejectedRequestsWithoutRetrying() throws InterruptedException {
+
+    failWith("bad", 400);
+
+    queue.send(bot, 1, message(1, "bad"));
+    queue.send(bot, 1, message(1, "next"));
+
+    awaitDrained();
+
+    assertEquals(List.of("bad", "next"), attempts);
+    assertEquals(List.of("next"), delivered);
+    assertEquals(1, dropped("rejected"));
+    assertEquals(0, retries("transient"));
+  }
+
+  @Test
+  void dropsAfterMaxAttempts() throws InterruptedException {
+
+    failWith("doomed", 500, 503, 500);
+
+    queue.send(bot, 1, message(1, "doomed"));
+    queue.send(bot, 1, message(1, "next"));
+
+    awaitDrained();
+
+    assertEquals(List.of("doomed", "doomed", "doomed", "next"), attempts);
+    assertEquals(List.of("next"), delivered);
+    assertEquals(MAX_ATTEMPTS - 1, retries("transient"));
+    assertEquals(1, dropped("transient"));
+  }
+
+  private void failWith(String text, Integer... errorCodes) {
+    failures.put(text, new ArrayDeque<>(List.of(errorCodes)));
+  }
+
+  private double retries(String reason) {
+    return meterRegistry.counter("vocabu.telegram.outbound.retries", "reason", reason).count();
+  }
+
+  private double dropped(String reason) {
+    return meterRegistry.counter("vocabu.telegram.outbound.dropped", "reason", reason).count();
+  }
+
+  private void awaitDrained() throws InterruptedException {
+
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+    while (queue.getQueueDepth() > 0) {
+      assertTrue(System.nanoTime() < deadline, "Outbound queue did not drain");
+      Thread.sleep(5);
+    }
+  }
+
+  private TelegramBot scriptedBot() {
+
+    BotConfig botConfig = new BotConfig();
+    botConfig.setToken("123456:test-token");
+
+    return new TelegramBot(null, null, botConfig, null) {
+
+      @Override
+      public <T extends Serializable, Method extends BotApiMethod<T>> T execute(Method method) throws TelegramApiException {
+
+        String text = ((SendMessage) method).getText();
+        attempts.add(text);
+
+        Deque<Integer> pending = failures.get(text);
+        Integer errorCode = pending != null ? pending.poll() : null;
+
+        if (errorCode != null) {
+          throw requestException(errorCode);
+        }
+
+        delivered.add(text);
+        return null;
+      }
+    };
+  }
+
+  private static TelegramApiRequestException requestException(int errorCode) {
+
+    String json = "{\"ok\":false,\"error_code\":" + errorCode + ",\"description\":\"error " + errorCode + "\"}";
+
+    try {
+      ApiResponse<Boolean> response = new ObjectMapper().readValue(json, new TypeReference<ApiResponse<Boolean>>() {});
+      return new TelegramApiRequestException("Error executing sendmessage query", response);
+
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static SendMessage message(long chatId, String text) {
+    return SendMessage.builder().chatId(chatId).text(text).build();
+  }
+
+  private static List<String> numbered(String prefix, int count) {
+    return IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+  }
+
+  private static OutboundConfig outboundConfig() {
+
+    OutboundConfig config = new OutboundConfig();
+    config.setSenders(2);
+    config.setGlobalRatePerSecond(100_000);
+    config.setGlobalMinRatePerSecond(100_000);
+    config.setGlobalBurst(100_000);
+    config.setPerChatRatePerSecond(100_000);
+    config.setPerChatBurst(100_000);
+    config.setMaxAttempts(MAX_ATTEMPTS);
+    config.setRetryBaseDelay(Duration.ofMillis(1));
+    config.setRetryMaxDelay(Duration.ofMillis(5));
+
+    return config;
+  }
+}
@@ -0,0 +1,73 @@
+package tg.vocabu.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import tg.vocabu.config.BotConfig;
+import tg.vocabu.config.WebhookConfig;
+
+class WebhookControllerTest {
+
+  private final List<Update> received = new ArrayList<>();
+  private final WebhookConfig webhookConfig = new WebhookConfig();
+  private final WebhookController controller = new WebhookController(recordingBot(received), webhookConfig);
+
+  @Test
+  void acceptsUpdateWithMatchingSecret() {
+
+    webhookConfig.setSecretToken("s3cret-token");
+    Update update = update(1);
+
+    assertEquals(200, controller.onUpdate("s3cret-token", update).getStatusCode().value());
+    assertEquals(List.of(update), received);
+  }
+
+  @Test
+  void rejectsWrongOrMissingSecret() {
+
+    webhookConfig.setSecretToken("s3cret-token");
+
+    assertEquals(401, controller.onUpdate("s3cret-tokeN", update(1)).getStatusCode().value());
+    assertEquals(401, controller.onUpdate("", update(2)).getStatusCode().value());
+    assertEquals(401, controller.onUpdate(null, update(3)).getStatusCode().value());
+    assertTrue(received.isEmpty());
+  }
+
+  @Test
+  void rejectsEverythingWhenNoSecretIsConfigured() {
+
+    assertEquals(401, controller.onUpdate(null, update(1)).getStatusCode().value());
+    assertEquals(401, controller.onUpdate("", update(2)).getStatusCode().value());
+
+    webhookConfig.setSecretToken(" ");
+
+    assertEquals(401, controller.onUpdate(" ", update(3)).getStatusCode().value());
+    assertTrue(received.isEmpty());
+  }
+
+  private static Update update(int updateId) {
+
+    Update update = new Update();
+    update.setUpdateId(updateId);
+
+    return update;
+  }
+
+  private static TelegramBot recordingBot(List<Update> received) {
+
+    BotConfig botConfig = new BotConfig();
+    botConfig.setToken("123456:test-token");
+
+    return new TelegramBot(null, null, botConfig, null) {
+
+      @Override
+      public void onUpdateReceived(Update update) {
+        received.add(update);
+      }
+    };
+  }
+}
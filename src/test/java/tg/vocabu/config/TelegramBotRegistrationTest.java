@@ -0,0 +1,240 @@
+package tg.vocabu.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import tg.vocabu.bot.TelegramBot;
+
+class TelegramBotRegistrationTest {
+
+  private static final String TOKEN = "123456:test-token";
+  private static final long TIMEOUT_MILLIS = 10_000;
+
+  private static final String UPDATE_JSON =
+      "{\"update_id\":7,\"message\":{\"message_id\":1,\"date\":1700000000,"
+          + "\"chat\":{\"id\":42,\"type\":\"private\"},"
+          + "\"from\":{\"id\":42,\"is_bot\":false,\"first_name\":\"Test\"},"
+          + "\"text\":\"hello\"}}";
+
+  private final BlockingQueue<Update> received = new LinkedBlockingQueue<>();
+  private final TelegramBotRegistration registration = new TelegramBotRegistration();
+  private final BotConfig botConfig = new BotConfig();
+  private final WebhookConfig webhookConfig = new WebhookConfig();
+
+  private TelegramApiStub api;
+
+  @BeforeEach
+  void setUp() throws IOException {
+
+    api = TelegramApiStub.start();
+
+    botConfig.setToken(TOKEN);
+    botConfig.setUsername("test_bot");
+    botConfig.setApiBaseUrl(api.baseUrl());
+    botConfig.setUpdateMode(BotConfig.UpdateMode.WEBHOOK);
+
+    webhookConfig.setPublicUrl("https://bot.example.com/");
+  }
+
+  @AfterEach
+  void tearDown() {
+
+    registration.shutdown();
+    api.close();
+  }
+
+  @Test
+  void setsWebhookWithConfiguredSecret() throws Exception {
+
+    webhookConfig.setSecretToken("configured-secret");
+
+    registration.telegramBotsApi(recordingBot(), botConfig, webhookConfig);
+
+    String body = api.awaitCall("setWebhook");
+
+    assertTrue(body.contains("https://bot.example.com/telegram/webhook"), body);
+    assertTrue(body.contains("configured-secret"), body);
+    assertFalse(api.methods().contains("getUpdates"));
+  }
+
+  @Test
+  void generatesSecretWhenNoneIsConfigured() throws Exception {
+
+    registration.telegramBotsApi(recordingBot(), botConfig, webhookConfig);
+
+    String secret = webhookConfig.getSecretToken();
+
+    assertNotNull(secret);
+    assertTrue(secret.matches("[A-Za-z0-9_-]{43}"), secret);
+    assertTrue(api.awaitCall("setWebhook").contains(secret));
+  }
+
+  @Test
+  void fallsBackToLongPollingWhenSetWebhookFails() throws Exception {
+
+    webhookConfig.setSecretToken("configured-secret");
+    api.fail("setWebhook", 400, "Bad Request: bad webhook: Failed to resolve host");
+    api.enqueueUpdate(UPDATE_JSON);
+
+    registration.telegramBotsApi(recordingBot(), botConfig, webhookConfig);
+
+    api.awaitCall("setWebhook");
+    api.awaitCall("deleteWebhook");
+
+    Update update = received.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertNotNull(update);
+    assertEquals(7, update.getUpdateId());
+  }
+
+  @Test
+  void longPollingDeliversUpdatesAndAdvancesOffset() throws Exception {
+
+    botConfig.setUpdateMode(BotConfig.UpdateMode.LONG_POLLING);
+    api.enqueueUpdate(UPDATE_JSON);
+
+    registration.telegramBotsApi(recordingBot(), botConfig, webhookConfig);
+
+    Update update = received.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertNotNull(update);
+    assertEquals(7, update.getUpdateId());
+    assertEquals(42L, update.getMessage().getChatId());
+    assertEquals("hello", update.getMessage().getText());
+
+    api.awaitCall("getUpdates", body -> body.contains("\"offset\":8"));
+    assertFalse(api.methods().contains("setWebhook"));
+  }
+
+  private TelegramBot recordingBot() {
+
+    return new TelegramBot(null, null, botConfig, null) {
+
+      @Override
+      public void onUpdateReceived(Update update) {
+        received.add(update);
+      }
+    };
+  }
+
+  private static final class TelegramApiStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+    private final Map<String, String[]> failures = new ConcurrentHashMap<>();
+    private final Queue<String> updates = new ConcurrentLinkedQueue<>();
+
+    private TelegramApiStub(HttpServer server) {
+      this.server = server;
+    }
+
+    static TelegramApiStub start() throws IOException {
+
+      TelegramApiStub stub = new TelegramApiStub(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0));
+
+      stub.server.createContext("/", stub::handle);
+      stub.server.start();
+
+      return stub;
+    }
+
+    String baseUrl() {
+      return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/bot";
+    }
+
+    void fail(String method, int errorCode, String description) {
+      failures.put(method, new String[] {String.valueOf(errorCode), description});
+    }
+
+    void enqueueUpdate(String updateJson) {
+      updates.add(updateJson);
+    }
+
+    List<String> methods() {
+      return calls.stream().map(Call::method).toList();
+    }
+
+    String awaitCall(String method) throws InterruptedException {
+      return awaitCall(method, body -> true);
+    }
+
+    String awaitCall(String method, Predicate<String> condition) throws InterruptedException {
+
+      long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+      while (System.currentTimeMillis() < deadline) {
+
+        for (Call call : calls) {
+          if (call.method().equals(method) && condition.test(call.body())) {
+            return call.body();
+          }
+        }
+
+        Thread.sleep(20);
+      }
+
+      throw new AssertionError("No matching " + method + " call, got " + methods());
+    }
+
+    @Override
+    public void close() {
+      server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+      String path = exchange.getRequestURI().getPath();
+      String method = path.substring(path.lastIndexOf('/') + 1);
+      String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+      calls.add(new Call(method, body));
+
+      int status = 200;
+      String response;
+
+      if (failures.containsKey(method)) {
+        String[] failure = failures.get(method);
+        status = Integer.parseInt(failure[0]);
+        response = "{\"ok\":false,\"error_code\":" + failure[0] + ",\"description\":\"" + failure[1] + "\"}";
+      } else if (method.equals("getUpdates")) {
+        String update = updates.poll();
+        response = "{\"ok\":true,\"result\":[" + (update == null ? "" : update) + "]}";
+      } else {
+        response = "{\"ok\":true,\"result\":true}";
+      }
+
+      byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, bytes.length);
+
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(bytes);
+      }
+    }
+
+    private record Call(String method, String body) {}
+  }
+}
@@ -0,0 +1,127 @@
+package tg.vocabu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class SchemaIndexTest {
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @BeforeAll
+  static void migrateAndSeed() throws SQLException {
+
+    Flyway.configure().dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()).load().migrate();
+
+    try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+
+      statement.execute(
+          "INSERT INTO users (id, chat_id, user_name, is_bot, banned) "
+              + "SELECT n, n, 'user' || n, false, false FROM generate_series(1, 20000) n");
+      statement.execute(
+          "INSERT INTO words (chat_id, english, ukrainian, score, learned) "
+              + "SELECT n % 200, 'word' || n, 'слово' || n, 0, n % 3 = 0 FROM generate_series(1, 20000) n");
+      statement.execute(
+          "INSERT INTO translation_cache (source_text, source_lang, target_lang, translation, hits) "
+              + "SELECT 'text' || n, 'en', 'uk', 'текст' || n, n FROM generate_series(1, 20000) n");
+      statement.execute("ANALYZE");
+    }
+  }
+
+  @Test
+  void wordPagesUseKeysetIndex() throws SQLException {
+
+    assertUsesIndex("SELECT * FROM words WHERE chat_id = 7 AND learned = false AND id > 500 ORDER BY id ASC LIMIT 11", "idx_words_chat_learned_id");
+    assertUsesIndex("SELECT * FROM words WHERE chat_id = 7 AND learned = false AND id < 9000 ORDER BY id DESC LIMIT 11", "idx_words_chat_learned_id");
+  }
+
+  @Test
+  void dueWordsUseDueIndex() throws SQLException {
+    assertUsesIndex("SELECT * FROM words WHERE chat_id = 7 AND learned = false ORDER BY due_at ASC LIMIT 10", "idx_words_chat_learned_due");
+  }
+
+  @Test
+  void perChatWordLookupUsesUniqueIndex() throws SQLException {
+    assertUsesIndex("SELECT id FROM words WHERE chat_id = 7 AND english = 'word1407'", "uq_words_chat_english");
+  }
+
+  @Test
+  void userSearchUsesTrigramIndex() throws SQLException {
+    assertUsesIndex(
+        "SELECT * FROM users WHERE lower(user_name) LIKE '%user1234%' ESCAPE '\\' AND id > 0 ORDER BY id ASC LIMIT 11", "idx_users_user_name_trgm");
+  }
+
+  @Test
+  void cacheWarmUpUsesHitsIndex() throws SQLException {
+    assertUsesIndex("SELECT * FROM translation_cache ORDER BY hits DESC LIMIT 100", "idx_translation_cache_hits");
+  }
+
+  @Test
+  void dictionaryHasNoSecondaryIndexes() throws SQLException {
+    assertEquals(List.of("dictionary_pkey"), indexesOf("dictionary"));
+  }
+
+  @Test
+  void wordsCarryOnlyQueriedIndexes() throws SQLException {
+    assertEquals(List.of("idx_words_chat_learned_due", "idx_words_chat_learned_id", "uq_words_chat_english", "words_pkey"), indexesOf("words"));
+  }
+
+  private static void assertUsesIndex(String sql, String index) throws SQLException {
+
+    String plan = explain(sql);
+    assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+  }
+
+  private static String explain(String sql) throws SQLException {
+
+    try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+
+      statement.execute("SET enable_seqscan = off");
+
+      StringBuilder plan = new StringBuilder();
+
+      try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+        while (resultSet.next()) {
+          plan.append(resultSet.getString(1)).append('\n');
+        }
+      }
+
+      return plan.toString();
+    }
+  }
+
+  private static List<String> indexesOf(String table) throws SQLException {
+
+    List<String> indexes = new ArrayList<>();
+
+    try (Connection connection = connect();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT indexname FROM pg_indexes WHERE tablename = '" + table + "' ORDER BY indexname")) {
+
+      while (resultSet.next()) {
+        indexes.add(resultSet.getString(1));
+      }
+    }
+
+    return indexes;
+  }
+
+  private static Connection connect() throws SQLException {
+    return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+  }
+}
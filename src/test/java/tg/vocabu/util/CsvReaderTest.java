@@ -0,0 +1,70 @@
+package tg.vocabu.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+  @Test
+  void readsPlainRecords() throws IOException {
+    assertEquals(List.of(List.of("apple", "яблуко"), List.of("cat", "кіт")), readAll("apple,яблуко\ncat,кіт\n"));
+  }
+
+  @Test
+  void readsLastRecordWithoutTrailingNewline() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\nc,d"));
+  }
+
+  @Test
+  void acceptsCrLfLineEndings() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\r\nc,d\r\n"));
+  }
+
+  @Test
+  void acceptsBareCrLineEndings() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\rc,d"));
+  }
+
+  @Test
+  void keepsDelimitersAndNewlinesInsideQuotes() throws IOException {
+    assertEquals(List.of(List.of("to run, to sprint", "line\nbreak"), List.of("x", "y")), readAll("\"to run, to sprint\",\"line\nbreak\"\nx,y\n"));
+  }
+
+  @Test
+  void unescapesDoubledQuotes() throws IOException {
+    assertEquals(List.of(List.of("say \"hi\"", "\"")), readAll("\"say \"\"hi\"\"\",\"\"\"\"\n"));
+  }
+
+  @Test
+  void keepsEmptyFields() throws IOException {
+    assertEquals(List.of(List.of("", "b", ""), List.of("", "")), readAll(",b,\n\"\",\n"));
+  }
+
+  @Test
+  void returnsNullForEmptyInput() throws IOException {
+
+    try (CsvReader reader = new CsvReader(new StringReader(""))) {
+      assertNull(reader.readRecord());
+      assertNull(reader.readRecord());
+    }
+  }
+
+  private static List<List<String>> readAll(String csv) throws IOException {
+
+    List<List<String>> records = new ArrayList<>();
+
+    try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+      for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+        records.add(record);
+      }
+    }
+
+    return records;
+  }
+}
@@ -0,0 +1,102 @@
+package tg.vocabu.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class LongSetTest {
+
+  @Test
+  void emptySetContainsNothing() {
+
+    LongSet set = LongSet.empty();
+
+    assertEquals(0, set.size());
+    assertFalse(set.contains(0L));
+    assertFalse(set.contains(42L));
+    assertArrayEquals(new long[0], set.toArray());
+  }
+
+  @Test
+  void ofIgnoresDuplicates() {
+
+    LongSet set = LongSet.of(7L, 7L, -3L, 7L);
+
+    assertEquals(2, set.size());
+    assertTrue(set.contains(7L));
+    assertTrue(set.contains(-3L));
+    assertFalse(set.contains(3L));
+  }
+
+  @Test
+  void zeroIsStoredAlongsideOtherValues() {
+
+    LongSet set = LongSet.of(0L, 1L, 0L);
+
+    assertEquals(2, set.size());
+    assertTrue(set.contains(0L));
+    assertTrue(set.contains(1L));
+    assertTrue(set.without(0L).contains(1L));
+    assertFalse(set.without(0L).contains(0L));
+  }
+
+  @Test
+  void withAndWithoutReturnNewSetsAndLeaveOriginalUntouched() {
+
+    LongSet original = LongSet.of(1L, 2L);
+    LongSet added = original.with(3L);
+    LongSet removed = original.without(1L);
+
+    assertEquals(2, original.size());
+    assertFalse(original.contains(3L));
+    assertTrue(original.contains(1L));
+
+    assertEquals(3, added.size());
+    assertTrue(added.contains(3L));
+
+    assertEquals(1, removed.size());
+    assertFalse(removed.contains(1L));
+    assertTrue(removed.contains(2L));
+  }
+
+  @Test
+  void withExistingOrWithoutMissingValueReturnsSameInstance() {
+
+    LongSet set = LongSet.of(5L);
+
+    assertSame(set, set.with(5L));
+    assertSame(set, set.without(6L));
+  }
+
+  @Test
+  void holdsManyValuesIncludingExtremes() {
+
+    long[] values = LongStream.rangeClosed(-5_000, 5_000).map(value -> value * 1_000_003L).toArray();
+    LongSet set = LongSet.of(values).with(Long.MAX_VALUE).with(Long.MIN_VALUE);
+
+    assertEquals(values.length + 2, set.size());
+
+    for (long value : values) {
+      assertTrue(set.contains(value));
+      assertFalse(set.contains(value + 1));
+    }
+
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertTrue(set.contains(Long.MIN_VALUE));
+  }
+
+  @Test
+  void toArrayReturnsEveryValueOnce() {
+
+    long[] actual = LongSet.of(9L, 0L, -4L, 9L).toArray();
+    Arrays.sort(actual);
+
+    assertArrayEquals(new long[] {-4L, 0L, 9L}, actual);
+  }
+}
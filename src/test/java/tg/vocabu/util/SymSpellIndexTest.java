@@ -0,0 +1,114 @@
+package tg.vocabu.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SymSpellIndexTest {
+
+  private final SymSpellIndex index = SymSpellIndex.of(List.of("apple", "apply", "ample", "house", "understanding", "кіт", "кит"), 2);
+
+  @Test
+  void emptyIndexFindsNothing() {
+
+    assertEquals(List.of(), SymSpellIndex.empty(2).lookup("apple", 2));
+    assertEquals(List.of(), SymSpellIndex.of(List.of(), 2).lookup("apple", 2));
+    assertEquals(0, SymSpellIndex.empty(2).size());
+  }
+
+  @Test
+  void emptyInputFindsNothing() {
+    assertEquals(List.of(), index.lookup("", 2));
+  }
+
+  @Test
+  void exactMatchHasDistanceZero() {
+    assertEquals(new SymSpellIndex.Suggestion("house", 0), index.lookup("house", 2).get(0));
+  }
+
+  @Test
+  void findsSingleEditsAtDistanceOne() {
+
+    assertEquals(List.of(suggestion("house", 1)), index.lookup("hause", 1));
+    assertEquals(List.of(suggestion("house", 1)), index.lookup("hose", 1));
+    assertEquals(List.of(suggestion("house", 1)), index.lookup("houses", 1));
+  }
+
+  @Test
+  void countsTranspositionAsOneEdit() {
+
+    assertEquals(List.of(suggestion("house", 1)), index.lookup("hosue", 1));
+    assertEquals(1, SymSpellIndex.distance("ab", "ba", 2));
+  }
+
+  @Test
+  void findsTwoEditsOnlyWhenAllowed() {
+
+    assertEquals(List.of(), index.lookup("hoxsr", 1));
+    assertEquals(List.of(suggestion("house", 2)), index.lookup("hoxsr", 2));
+    assertEquals(List.of(suggestion("house", 2)), index.lookup("hauze", 2));
+  }
+
+  @Test
+  void sortsByDistanceThenTerm() {
+    assertEquals(List.of(suggestion("apple", 1), suggestion("apply", 1)), index.lookup("appl", 1));
+  }
+
+  @Test
+  void neverExceedsIndexMaxDistance() {
+
+    SymSpellIndex shallow = SymSpellIndex.of(List.of("house"), 1);
+
+    assertEquals(List.of(), shallow.lookup("hauze", 2));
+    assertEquals(List.of(suggestion("house", 1)), shallow.lookup("hous", 2));
+  }
+
+  @Test
+  void matchesWordsLongerThanPrefix() {
+
+    assertEquals(List.of(suggestion("understanding", 1)), index.lookup("understandimg", 2));
+    assertEquals(List.of(suggestion("understanding", 1)), index.lookup("undrestanding", 2));
+    assertEquals(List.of(suggestion("understanding", 2)), index.lookup("understandg", 2));
+    assertEquals(List.of(), index.lookup("understxxxing", 2));
+  }
+
+  @Test
+  void handlesCyrillicTerms() {
+    assertEquals(List.of(suggestion("кит", 1), suggestion("кіт", 1)), index.lookup("кот", 1));
+  }
+
+  @Test
+  void addMakesTermSearchable() {
+
+    SymSpellIndex growing = SymSpellIndex.empty(2);
+
+    assertTrue(growing.add("garden"));
+    assertTrue(growing.add("gardening"));
+    assertFalse(growing.add("garden"));
+
+    assertEquals(2, growing.size());
+    assertEquals(List.of(suggestion("garden", 1)), growing.lookup("gardn", 1));
+    assertEquals(List.of(suggestion("gardening", 1)), growing.lookup("gardenimg", 1));
+  }
+
+  @Test
+  void addExtendsPrebuiltIndex() {
+
+    assertTrue(index.add("horse"));
+
+    assertEquals(8, index.size());
+    assertEquals(List.of(suggestion("horse", 1), suggestion("house", 1)), index.lookup("hoise", 1));
+  }
+
+  @Test
+  void estimatesMemoryForDeletes() {
+    assertTrue(index.estimateMemoryBytes() > SymSpellIndex.empty(2).estimateMemoryBytes());
+  }
+
+  private static SymSpellIndex.Suggestion suggestion(String term, int distance) {
+    return new SymSpellIndex.Suggestion(term, distance);
+  }
+}